@@ -0,0 +1,59 @@
+package com.yoojin.restapiwithspring;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * 벤치마크에서 사용하는 애플리케이션 컨텍스트와 요청 환경. H2 메모리 DB 위에서 임의 포트로 띄운다.
+ */
+public final class Benchmarks {
+    private Benchmarks() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(RestApiWithSpringApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("test")
+                .properties("server.port=0", "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * linkTo 가 현재 요청을 기준으로 링크를 만들 수 있도록 현재 스레드에 요청을 묶는다.
+     */
+    public static MockHttpServletRequest bindRequest(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+
+    /**
+     * 컨트롤러가 HAL 응답을 쓸 때 사용하는 것과 같은 메시지 컨버터.
+     */
+    public static HttpMessageConverter<Object> halConverter(ApplicationContext context) {
+        return converter(context, MediaTypes.HAL_JSON);
+    }
+
+    /**
+     * 컨트롤러가 mediaType 으로 응답을 쓸 때 사용하는 메시지 컨버터.
+     */
+    @SuppressWarnings("unchecked")
+    public static HttpMessageConverter<Object> converter(ApplicationContext context, MediaType mediaType) {
+        return (HttpMessageConverter<Object>) context.getBean(RequestMappingHandlerAdapter.class)
+                .getMessageConverters().stream()
+                .filter(converter -> converter.canWrite(RepresentationModel.class, mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No converter for " + mediaType));
+    }
+}
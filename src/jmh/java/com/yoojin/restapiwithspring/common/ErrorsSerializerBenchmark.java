@@ -0,0 +1,67 @@
+package com.yoojin.restapiwithspring.common;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import com.yoojin.restapiwithspring.event.EventDto;
+import com.yoojin.restapiwithspring.event.EventFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 400 응답 본문인 ErrorsResource 를 ErrorsSerializer 로 쓰는 비용.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorsSerializerBenchmark {
+    private ConfigurableApplicationContext context;
+    private HttpMessageConverter<Object> halConverter;
+    private ErrorsResource errorsResource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start();
+        this.halConverter = Benchmarks.halConverter(this.context);
+        Benchmarks.bindRequest("POST", "/api/events");
+
+        EventDto eventDto = EventFixtures.eventDto();
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        errors.rejectValue("basePrice", "wrongValue", "Values for Prices are wrong");
+        errors.rejectValue("endEventDateTime", "wrongValue", "Values for endEventDateTime are wrong");
+        errors.reject("wrongPrice", "Values for Prices are wrong");
+        this.errorsResource = new ErrorsResource(errors);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeErrors() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        this.halConverter.write(this.errorsResource, MediaTypes.HAL_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+}
@@ -0,0 +1,119 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.account.AccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실제 Tomcat 위에서 동시 요청 64 개로 블로킹 모드와 비동기 모드의 처리량과 지연 시간 분포를 비교한다.
+ * Tomcat 스레드를 16 개로 줄여서 서블릿 스레드 수가 병목이 되는 상황을 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(1)
+public class EventAsyncLoadBenchmark {
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" type=\"hidden\" value=\"([^\"]+)\"");
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI eventUri;
+    private URI pageUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.context = Benchmarks.start(
+                "async-handler.enabled=" + this.async,
+                "server.tomcat.threads.max=16",
+                "spring.datasource.hikari.maximum-pool-size=16");
+        String baseUri = "http://localhost:" + this.context.getEnvironment().getProperty("local.server.port");
+
+        EventRepository eventRepository = this.context.getBean(EventRepository.class);
+        Event event = eventRepository.saveAll(EventFixtures.newEvents(0, 1_000)).get(500);
+        this.eventUri = URI.create(baseUri + "/api/events/" + event.getId());
+        this.pageUri = URI.create(baseUri + "/api/events?page=3&size=20");
+
+        this.context.getBean(AccountService.class).saveAccount(Account.builder()
+                .email("load@email.com").password("password").roles(Set.of(AccountRole.USER)).build());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        logIn(baseUri);
+    }
+
+    private void logIn(String baseUri) throws IOException, InterruptedException {
+        String loginPage = this.client.send(HttpRequest.newBuilder(URI.create(baseUri + "/login")).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF.matcher(loginPage);
+        if (!csrf.find()) {
+            throw new IllegalStateException("No csrf token on the login page");
+        }
+        String form = "username=load%40email.com&password=password&_csrf="
+                + URLEncoder.encode(csrf.group(1), StandardCharsets.UTF_8);
+        this.client.send(HttpRequest.newBuilder(URI.create(baseUri + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        int status = get(this.eventUri);
+        if (status != 200) {
+            throw new IllegalStateException("Login failed, GET returned " + status);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int getEvent() throws IOException, InterruptedException {
+        return get(this.eventUri);
+    }
+
+    @Benchmark
+    public int getEvents() throws IOException, InterruptedException {
+        return get(this.pageUri);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        return this.client.send(HttpRequest.newBuilder(uri).header("Accept", "application/hal+json").build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,70 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 N 개 저장: 건별 저장(POST /api/events 와 같은 경로)과 batch 저장(POST /api/events/batch) 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBatchInsertBenchmark {
+    @Param({"100", "1000"})
+    public int events;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private EventRepository eventRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start();
+        this.eventService = this.context.getBean(EventService.class);
+        this.eventRepository = this.context.getBean(EventRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteEvents() {
+        this.eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        int saved = 0;
+        for (Event event : EventFixtures.newEvents(0, this.events)) {
+            this.eventService.saveEvent(event);
+            saved++;
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public List<Event> batch() {
+        return this.eventService.saveEvents(EventFixtures.newEvents(0, this.events));
+    }
+}
@@ -0,0 +1,95 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100 개짜리 목록 페이지를 HAL JSON, CBOR, Smile 로 쓰고 읽는 비용. 컨트롤러와 같은 메시지 컨버터를 사용한다.
+ * 크기는 setUp 에서 출력한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBinaryFormatBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"application/hal+json", "application/cbor", "application/x-jackson-smile"})
+    public String mediaType;
+
+    private ConfigurableApplicationContext context;
+    private HttpMessageConverter<Object> converter;
+    private MediaType contentType;
+    private PagedModel<EntityModel<EventSummary>> pagedModel;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.context = Benchmarks.start();
+        this.contentType = MediaType.parseMediaType(this.mediaType);
+        this.converter = Benchmarks.converter(this.context, this.contentType);
+        Benchmarks.bindRequest("GET", "/api/events");
+
+        List<EventSummary> events = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            events.add(EventSummary.of(EventFixtures.event(i + 1)));
+        }
+        this.pagedModel = new PagedResourcesAssembler<EventSummary>(new HateoasPageableHandlerMethodArgumentResolver(), null)
+                .toModel(new PageImpl<>(events, PageRequest.of(1, PAGE_SIZE), 10_000), EventSummaryResource::new);
+        this.encoded = encode();
+        System.out.println(this.mediaType + " bytes: " + this.encoded.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        this.converter.write(this.pagedModel, this.contentType, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    /**
+     * 호출하는 쪽이 응답을 트리로 읽는 비용.
+     */
+    @Benchmark
+    public Object decode() throws IOException {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(this.encoded);
+        inputMessage.getHeaders().setContentType(this.contentType);
+        return this.converter.read(JsonNode.class, inputMessage);
+    }
+}
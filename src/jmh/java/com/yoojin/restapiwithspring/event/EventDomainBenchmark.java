@@ -0,0 +1,67 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventValidator.validate (Bean Validation 포함) 와 Event.update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDomainBenchmark {
+    private EventValidator eventValidator;
+    private EventDto validDto;
+    private EventDto invalidDto;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        this.eventValidator = new EventValidator(
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()));
+        this.validDto = EventFixtures.eventDto();
+        this.invalidDto = EventFixtures.eventDto();
+        this.invalidDto.setBasePrice(20000);
+        this.invalidDto.setMaxPrice(1000);
+        this.invalidDto.setEndEventDateTime(LocalDateTime.of(2020, 6, 1, 10, 30));
+        this.event = EventFixtures.event(1);
+    }
+
+    @Benchmark
+    public Errors validateValid() {
+        Errors errors = new BeanPropertyBindingResult(this.validDto, "eventDto");
+        this.eventValidator.validate(this.validDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateInvalid() {
+        Errors errors = new BeanPropertyBindingResult(this.invalidDto, "eventDto");
+        this.eventValidator.validate(this.invalidDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Event update() {
+        this.event.update();
+        return this.event;
+    }
+}
@@ -0,0 +1,94 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 100 개짜리 목록 페이지를 전체 필드와 모바일 필드(fields=name,eventStatus,beginEventDateTime)로 조회한다.
+ * 응답 크기는 setUp 에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventFieldsBenchmark {
+    private static final int EVENTS = 1_000;
+
+    @Param({"", "name,eventStatus,beginEventDateTime"})
+    public String fields;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.context = Benchmarks.start();
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) this.context)
+                .apply(springSecurity())
+                .build();
+        List<Account> managers = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            managers.add(Account.builder().email("manager" + i + "@email.com").password("password")
+                    .roles(Set.of(AccountRole.USER)).build());
+        }
+        this.context.getBean(AccountRepository.class).saveAll(managers);
+        List<Event> events = EventFixtures.newEvents(0, EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.get(i).setManager(managers.get(i));
+        }
+        this.context.getBean(EventRepository.class).saveAll(events);
+
+        System.out.println("response bytes: " + getEvents().getContentAsByteArray().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getEvents() throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/events")
+                .param("page", "3")
+                .param("size", "100")
+                .with(user("bench@email.com").roles("USER"))
+                .accept(MediaTypes.HAL_JSON);
+        if (!this.fields.isEmpty()) {
+            request.param("fields", this.fields);
+        }
+        return this.mockMvc.perform(request).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,67 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 PostgreSQL 모드에서 allocation size 별 insert 처리량. allocation size 1 이 예전의 hibernate_sequence 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventIdGenerationBenchmark {
+    private static final int EVENTS_PER_OP = 500;
+
+    @Param({"1", "50", "500"})
+    public int allocationSize;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private EventRepository eventRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start(
+                "spring.datasource.url=jdbc:h2:mem:id-generation;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "spring.jpa.properties.id_generator.event_seq.allocation_size=" + this.allocationSize);
+        this.eventService = this.context.getBean(EventService.class);
+        this.eventRepository = this.context.getBean(EventRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteEvents() {
+        this.eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /**
+     * 한 번에 EVENTS_PER_OP 개씩 insert 한다. 초당 처리 이벤트 수 = 점수 x EVENTS_PER_OP.
+     */
+    @Benchmark
+    public List<Event> insert() {
+        return this.eventService.saveEvents(EventFixtures.newEvents(0, EVENTS_PER_OP));
+    }
+}
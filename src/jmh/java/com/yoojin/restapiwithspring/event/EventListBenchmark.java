@@ -0,0 +1,101 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 100 개짜리 목록 페이지 조회: 엔티티 조회와 EventSummary 프로젝션 비교.
+ * 이벤트마다 manager 가 다르도록 만든다. 실행 SQL 수는 setUp 에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventListBenchmark {
+    private static final int EVENTS = 1_000;
+    private static final int PAGE_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private TransactionTemplate transaction;
+    private PageRequest page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start("spring.jpa.properties.hibernate.generate_statistics=true");
+        this.eventRepository = this.context.getBean(EventRepository.class);
+        AccountRepository accountRepository = this.context.getBean(AccountRepository.class);
+        this.transaction = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+        this.transaction.setReadOnly(false);
+        this.transaction.executeWithoutResult(status -> {
+            List<Event> events = EventFixtures.newEvents(0, EVENTS);
+            List<Account> managers = new ArrayList<>();
+            for (int i = 0; i < EVENTS; i++) {
+                managers.add(Account.builder().email("manager" + i + "@email.com").password("password")
+                        .roles(Set.of(AccountRole.USER, AccountRole.ADMIN)).build());
+            }
+            accountRepository.saveAll(managers);
+            for (int i = 0; i < EVENTS; i++) {
+                events.get(i).setManager(managers.get(i));
+            }
+            this.eventRepository.saveAll(events);
+        });
+        this.transaction.setReadOnly(true);
+        this.page = PageRequest.of(3, PAGE_SIZE);
+
+        Statistics statistics = this.context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        System.out.println("statements per page: entities=" + countStatements(statistics, this::entities)
+                + ", summaries=" + countStatements(statistics, this::summaries));
+    }
+
+    private long countStatements(Statistics statistics, Supplier<?> query) {
+        statistics.clear();
+        query.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Page<Event> entities() {
+        return this.transaction.execute(status -> this.eventRepository.findAll(this.page));
+    }
+
+    @Benchmark
+    public Page<EventSummary> summaries() {
+        return this.transaction.execute(status -> this.eventRepository.findAllSummaries(this.page));
+    }
+}
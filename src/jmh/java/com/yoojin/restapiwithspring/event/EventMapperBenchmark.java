@@ -0,0 +1,63 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventDto -> Event 변환: ModelMapper 와 EventMapper 비교. -prof gc 로 할당량도 함께 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private EventDto eventDto;
+    private Event existingEvent;
+
+    @Setup
+    public void setUp() {
+        this.modelMapper = new ModelMapper();
+        this.eventMapper = new EventMapper();
+        this.eventDto = EventFixtures.eventDto();
+        this.existingEvent = new Event();
+        // 첫 호출에서 만들어지는 TypeMap 생성 비용은 측정에서 뺀다.
+        this.modelMapper.map(this.eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event createWithModelMapper() {
+        return this.modelMapper.map(this.eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event createWithEventMapper() {
+        return this.eventMapper.toEvent(this.eventDto);
+    }
+
+    @Benchmark
+    public Event mergeWithModelMapper() {
+        this.modelMapper.map(this.eventDto, this.existingEvent);
+        return this.existingEvent;
+    }
+
+    @Benchmark
+    public Event mergeWithEventMapper() {
+        this.eventMapper.merge(this.eventDto, this.existingEvent);
+        return this.existingEvent;
+    }
+}
@@ -0,0 +1,80 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * N 번째 페이지 조회 시간: OFFSET/LIMIT + count 와 keyset 커서 비교.
+ * keyset 은 페이지 번호와 상관없이 일정해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPaginationBenchmark {
+    private static final int EVENTS = 50_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "100", "1000", "2400"})
+    public int pageNumber;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private PageRequest offsetPage;
+    private EventCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start();
+        this.eventRepository = this.context.getBean(EventRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+        for (int from = 0; from < EVENTS; from += 1_000) {
+            int start = from;
+            transaction.executeWithoutResult(status -> this.eventRepository.saveAll(EventFixtures.newEvents(start, 1_000)));
+        }
+
+        Sort sort = Sort.by(Sort.Order.asc("name"));
+        this.offsetPage = PageRequest.of(this.pageNumber, PAGE_SIZE, sort);
+        List<EventSummary> previous = this.eventRepository.findAllSummaries(PageRequest.of(this.pageNumber - 1, PAGE_SIZE, sort.and(Sort.by("id")))).getContent();
+        this.cursor = EventCursor.of(previous.get(previous.size() - 1), Sort.Order.asc("name"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Page<Event> offset() {
+        return this.eventRepository.findAll(this.offsetPage);
+    }
+
+    @Benchmark
+    public Slice<EventSummary> keyset() {
+        return this.eventRepository.findAllAfter(this.cursor, this.offsetPage);
+    }
+}
@@ -0,0 +1,96 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoojin.restapiwithspring.Benchmarks;
+import com.yoojin.restapiwithspring.common.JsonMergePatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * limitOfEnrollment 하나만 바꿀 때 전체 PUT 과 PATCH 의 지연 시간.
+ * 호출마다 값을 바꿔서 매번 UPDATE 가 실행되게 한다. UPDATE 에 들어가는 컬럼은 EventPatchTest 가 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPatchBenchmark {
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+    private Integer eventId;
+    private EventDto eventDto;
+    private int limit;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start();
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) this.context)
+                .apply(springSecurity())
+                .build();
+        this.objectMapper = this.context.getBean(ObjectMapper.class);
+        this.eventId = this.context.getBean(EventRepository.class)
+                .save(EventFixtures.newEvents(0, 1).get(0)).getId();
+        this.eventDto = EventFixtures.eventDto();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int put() throws Exception {
+        this.eventDto.setLimitOfEnrollment(nextLimit());
+        return perform(put("/api/events/{id}", this.eventId)
+                .with(user("bench@email.com").roles("USER")).with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(this.eventDto)));
+    }
+
+    @Benchmark
+    public int patch() throws Exception {
+        return perform(patch("/api/events/{id}", this.eventId)
+                .with(user("bench@email.com").roles("USER")).with(csrf())
+                .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+                .content("{\"limitOfEnrollment\":" + nextLimit() + "}"));
+    }
+
+    private int nextLimit() {
+        return 100 + (this.limit++ & 1);
+    }
+
+    private int perform(RequestBuilder request) throws Exception {
+        int status = this.mockMvc.perform(request).andReturn().getResponse().getStatus();
+        if (status != 200) {
+            throw new IllegalStateException("Expected 200 but was " + status);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,53 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import com.yoojin.restapiwithspring.common.ApiLinks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * EventResource 생성 비용과 self 링크를 만드는 두 방법(linkTo, ApiLinks) 비교.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventResourceBenchmark {
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        Benchmarks.bindRequest("GET", "/api/events");
+        this.event = EventFixtures.event(1);
+    }
+
+    @Benchmark
+    public EventResource eventResource() {
+        return new EventResource(this.event);
+    }
+
+    @Benchmark
+    public Link linkToSelfLink() {
+        return linkTo(EventController.class).slash(this.event.getId()).withSelfRel();
+    }
+
+    @Benchmark
+    public Link apiLinksSelfLink() {
+        return ApiLinks.event(this.event.getId()).withSelfRel();
+    }
+}
@@ -0,0 +1,104 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 목록 페이지(PagedModel&lt;EntityModel&lt;Event&gt;&gt;, 목록 API 가 쓰는 EventSummary 페이지)를 HAL JSON 으로 쓰는 비용.
+ * 컨트롤러와 같은 HAL 메시지 컨버터를 사용한다. 내용은 EventSerializers 가 쓴다.
+ * 할당량은 -prof gc 로 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpMessageConverter<Object> halConverter;
+    private PagedResourcesAssembler<Event> assembler;
+    private Page<Event> page;
+    private PagedModel<EntityModel<Event>> pagedModel;
+    private PagedModel<EntityModel<EventSummary>> summaryPagedModel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start();
+        this.halConverter = Benchmarks.halConverter(this.context);
+        Benchmarks.bindRequest("GET", "/api/events");
+        this.assembler = new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+
+        List<Event> events = new ArrayList<>(this.pageSize);
+        for (int i = 0; i < this.pageSize; i++) {
+            events.add(EventFixtures.event(i + 1));
+        }
+        this.page = new PageImpl<>(events, PageRequest.of(1, this.pageSize), 10_000);
+        this.pagedModel = assemble();
+        List<EventSummary> summaries = new ArrayList<>(this.pageSize);
+        events.forEach(event -> summaries.add(EventSummary.of(event)));
+        this.summaryPagedModel = new PagedResourcesAssembler<EventSummary>(new HateoasPageableHandlerMethodArgumentResolver(), null)
+                .toModel(new PageImpl<>(summaries, PageRequest.of(1, this.pageSize), 10_000), EventSummaryResource::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return write(this.pagedModel);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws IOException {
+        return write(this.summaryPagedModel);
+    }
+
+    @Benchmark
+    public byte[] assembleAndSerializePage() throws IOException {
+        return write(assemble());
+    }
+
+    private PagedModel<EntityModel<Event>> assemble() {
+        return this.assembler.toModel(this.page, EventResource::new);
+    }
+
+    private byte[] write(Object model) throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        this.halConverter.write(model, MediaTypes.HAL_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+}
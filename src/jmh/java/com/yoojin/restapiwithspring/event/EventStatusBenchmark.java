@@ -0,0 +1,103 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 N 개 중 시각이 지난 이벤트의 상태 옮기기.
+ * tick: 1만 개만 모집 시작 시각이 지난 평소의 한 번 실행, all: 모든 이벤트가 끝난 최악의 경우.
+ * entityTick 은 같은 1만 개를 엔티티로 읽어 dirty checking 으로 바꾸는 비교 대상이다.
+ * 매 iteration 전에 모든 이벤트를 PUBLISHED 로 되돌린다.
+ * 100만 행과 인덱스, update 의 undo 로그가 힙에 다 올라가지 않도록 메모리 대신 파일 H2 를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EventStatusBenchmark {
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int DUE_PER_TICK = 10_000;
+
+    @Param({"1000000"})
+    public int events;
+
+    private ConfigurableApplicationContext context;
+    private EventStatusScheduler eventStatusScheduler;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start(
+                "spring.datasource.url=jdbc:h2:file:./target/event-status-benchmark;CACHE_SIZE=262144",
+                "spring.jpa.hibernate.ddl-auto=create-drop");
+        this.eventStatusScheduler = this.context.getBean(EventStatusScheduler.class);
+        this.jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+        this.transaction = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+        this.entityManager = this.context.getBean(EntityManager.class);
+        // i 번째 이벤트는 BASE + i 초에 모집을 시작하고, 하루 간격으로 모집 마감, 시작, 종료한다.
+        this.jdbcTemplate.update("insert into event (id, version, offline, free, event_status, name, description, " +
+                "begin_enrollment_date_time, close_enrollment_date_time, begin_event_date_time, end_event_date_time, " +
+                "location, base_price, max_price, limit_of_enrollment) " +
+                "select x, 0, true, false, 'PUBLISHED', concat('event ', x), 'REST API Development with Spring', " +
+                "dateadd(second, x, base), dateadd(second, x + 86400, base), dateadd(second, x + 172800, base), dateadd(second, x + 259200, base), " +
+                "'강남역', 100, 200, 100 from system_range(1, " + this.events + "), (select timestamp '2020-01-01 00:00:00' base)");
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        this.jdbcTemplate.update("update event set event_status = 'PUBLISHED', version = 0");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int tick() {
+        return this.eventStatusScheduler.advance(BASE.plusSeconds(DUE_PER_TICK));
+    }
+
+    @Benchmark
+    public int all() {
+        return this.eventStatusScheduler.advance(BASE.plusSeconds(this.events).plusDays(4));
+    }
+
+    @Benchmark
+    public int entityTick() {
+        return this.transaction.execute(status -> {
+            List<Event> due = this.entityManager.createQuery(
+                            "select e from Event e where e.eventStatus = :status and e.beginEnrollmentDateTime <= :now", Event.class)
+                    .setParameter("status", EventStatus.PUBLISHED)
+                    .setParameter("now", BASE.plusSeconds(DUE_PER_TICK))
+                    .getResultList();
+            due.forEach(event -> event.setEventStatus(EventStatus.BEGAN_ENROLLMENT));
+            return due.size();
+        });
+    }
+}
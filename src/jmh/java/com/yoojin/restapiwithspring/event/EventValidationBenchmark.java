@@ -0,0 +1,95 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 잘못된 본문을 보낸 생성/수정 요청의 처리량. 검사에서 바로 400 을 돌려주므로 DB 커넥션을 쓰지 않는다.
+ * 커넥션 풀을 1 개로 줄여서, 검사 전에 DB 를 읽으면 처리량이 풀 크기에 묶이는 것을 드러낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class EventValidationBenchmark {
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private Integer eventId;
+    private String invalidBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.context = Benchmarks.start("spring.datasource.hikari.maximum-pool-size=1");
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) this.context)
+                .apply(springSecurity())
+                .build();
+        this.eventId = this.context.getBean(EventRepository.class)
+                .save(EventFixtures.newEvents(0, 1).get(0)).getId();
+
+        EventDto invalidDto = EventFixtures.eventDto();
+        invalidDto.setBasePrice(20000);
+        invalidDto.setMaxPrice(1000);
+        invalidDto.setEndEventDateTime(LocalDateTime.of(2020, 6, 1, 10, 30));
+        this.invalidBody = this.context.getBean(ObjectMapper.class).writeValueAsString(invalidDto);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int createInvalid() throws Exception {
+        return perform(post("/api/events")
+                .with(user("bench@email.com").roles("USER")).with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.invalidBody));
+    }
+
+    @Benchmark
+    public int updateInvalid() throws Exception {
+        return perform(put("/api/events/{id}", this.eventId)
+                .with(user("bench@email.com").roles("USER")).with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.invalidBody));
+    }
+
+    private int perform(RequestBuilder request) throws Exception {
+        int status = this.mockMvc.perform(request).andReturn().getResponse().getStatus();
+        if (status != 400) {
+            throw new IllegalStateException("Expected 400 but was " + status);
+        }
+        return status;
+    }
+}
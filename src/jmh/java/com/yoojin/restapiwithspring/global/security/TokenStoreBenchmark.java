@@ -0,0 +1,88 @@
+package com.yoojin.restapiwithspring.global.security;
+
+import com.yoojin.restapiwithspring.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰으로 인증 정보를 찾는 비용: InMemoryTokenStore, PersistentTokenStore(캐시 적중), 캐시 없이 DB 조회.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenStoreBenchmark {
+    private static final String TOKEN = "benchmark-token";
+
+    private ConfigurableApplicationContext context;
+    private TokenStore inMemory;
+    private TokenStore persistent;
+    private TokenStore uncached;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = Benchmarks.start();
+        DataSource dataSource = this.context.getBean(DataSource.class);
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(TOKEN);
+        token.setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()));
+        OAuth2Authentication authentication = new OAuth2Authentication(
+                new OAuth2Request(Map.of(), "myApp", List.of(), true, Set.of("read"), Set.of(), null, Set.of(), Map.of()),
+                new UsernamePasswordAuthenticationToken("user@email.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        this.inMemory = new InMemoryTokenStore();
+        this.inMemory.storeAccessToken(token, authentication);
+        this.persistent = new PersistentTokenStore(dataSource, new TokenStoreProperties());
+        this.persistent.storeAccessToken(token, authentication);
+        TokenStoreProperties noCache = new TokenStoreProperties();
+        noCache.setFrontCacheSize(0);
+        this.uncached = new PersistentTokenStore(dataSource, noCache);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public OAuth2Authentication inMemory() {
+        return this.inMemory.readAuthentication(this.inMemory.readAccessToken(TOKEN));
+    }
+
+    @Benchmark
+    public OAuth2Authentication persistentCached() {
+        return this.persistent.readAuthentication(this.persistent.readAccessToken(TOKEN));
+    }
+
+    @Benchmark
+    public OAuth2Authentication persistentUncached() {
+        return this.uncached.readAuthentication(this.uncached.readAccessToken(TOKEN));
+    }
+}
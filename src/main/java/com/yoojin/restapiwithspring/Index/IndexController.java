@@ -1,18 +1,16 @@
 package com.yoojin.restapiwithspring.Index;
 
-import com.yoojin.restapiwithspring.event.EventController;
+import com.yoojin.restapiwithspring.common.ApiLinks;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 @RestController
 public class IndexController {
     @GetMapping("/api")
     public RepresentationModel index() {
         var index = new RepresentationModel<>();
-        index.add(linkTo(EventController.class).withRel("events"));
+        index.add(ApiLinks.events().withRel("events"));
         return index;
     }
 
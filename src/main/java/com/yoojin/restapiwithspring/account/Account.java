@@ -1,6 +1,8 @@
 package com.yoojin.restapiwithspring.account;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.util.Set;
@@ -8,12 +10,16 @@ import java.util.Set;
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = "Account.roles", attributeNodes = @NamedAttributeNode("roles"))
 public class Account {
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "account_seq")
+    @GenericGenerator(name = "account_seq", strategy = "com.yoojin.restapiwithspring.global.jpa.PooledLoSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "account_seq"))
     private Integer id;
     private String email;
     private String password;
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @Enumerated(EnumType.STRING)
     private Set<AccountRole> roles;
 }
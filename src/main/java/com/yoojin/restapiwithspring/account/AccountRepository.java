@@ -1,9 +1,25 @@
 package com.yoojin.restapiwithspring.account;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    /**
+     * 인증에 쓰이므로 roles 까지 한 번에 읽는다.
+     */
+    @EntityGraph("Account.roles")
     Optional<Account> findByEmail(String email);
+
+    /**
+     * 로그인한 계정을 다른 엔티티에 연결할 때 쓴다. Account 와 roles 는 읽지 않는다.
+     * 읽기 전용 트랜잭션에서 실행되므로 복제본이 있으면 복제본에서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select a.id from Account a where a.email = :email")
+    Optional<Integer> findIdByEmail(@Param("email") String email);
 }
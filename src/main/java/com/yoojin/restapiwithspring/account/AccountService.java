@@ -1,6 +1,8 @@
 package com.yoojin.restapiwithspring.account;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -17,15 +19,37 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Service
 public class AccountService implements UserDetailsService {
+    public static final String USERS_CACHE = "users";
+
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CacheManager cacheManager;
 
     public Account saveAccount(Account account) {
         account.setPassword(this.passwordEncoder.encode(account.getPassword()));
-        return this.accountRepository.save(account);
+        Account savedAccount = this.accountRepository.save(account);
+        usersCache().evict(savedAccount.getEmail());
+        return savedAccount;
     }
     @Override
     public UserDetails loadUserByUsername(String userName) throws UsernameNotFoundException {
+        UserDetails cached;
+        try {
+            cached = usersCache().get(userName, () -> loadAccount(userName));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof UsernameNotFoundException) {
+                throw (UsernameNotFoundException) e.getCause();
+            }
+            throw e;
+        }
+        /**
+         * 인증이 끝나면 ProviderManager 가 UserDetails 의 비밀번호를 지우므로(eraseCredentials)
+         * 캐시된 인스턴스 대신 복사본을 반환한다.
+         * */
+        return User.withUserDetails(cached).build();
+    }
+
+    private UserDetails loadAccount(String userName) {
         Account account = accountRepository.findByEmail(userName).orElseThrow(() ->
                 new UsernameNotFoundException(userName));
         /**
@@ -34,6 +58,10 @@ public class AccountService implements UserDetailsService {
         return new User(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
     }
 
+    private Cache usersCache() {
+        return this.cacheManager.getCache(USERS_CACHE);
+    }
+
     private Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
         return roles.stream().map(r ->
                 new SimpleGrantedAuthority("ROLE_"+r.name()))
@@ -0,0 +1,90 @@
+package com.yoojin.restapiwithspring.common;
+
+import com.yoojin.restapiwithspring.Index.IndexController;
+import com.yoojin.restapiwithspring.enrollment.EnrollmentController;
+import com.yoojin.restapiwithspring.event.EventController;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * 응답에 넣는 링크를 만든다. WebMvcLinkBuilder 는 호출할 때마다 요청과 매핑 애노테이션을 살펴보므로
+ * 경로는 클래스 로딩 시점에, 기준 URI(스킴, 호스트, 컨텍스트 경로)는 요청마다 한 번만 계산하고 id 는 문자열로 이어 붙인다.
+ * 기준 URI 는 linkTo 와 같은 방식으로 만들기 때문에 ForwardedHeaderFilter 가 있으면 X-Forwarded-* 도 그대로 반영된다.
+ */
+public final class ApiLinks {
+    private static final String BASE_URI_ATTRIBUTE = ApiLinks.class.getName() + ".BASE_URI";
+    private static final String EVENTS_PATH = mappingOf(EventController.class);
+    private static final String INDEX_PATH = mappingOf(indexMethod());
+    private static final String EVENT_ID_VARIABLE = "{eventId}";
+    private static final String ENROLLMENTS_PATH = mappingOf(EnrollmentController.class);
+    private static final String ENROLLMENTS_PATH_PREFIX = ENROLLMENTS_PATH.substring(0, eventIdIndex(ENROLLMENTS_PATH));
+    private static final String ENROLLMENTS_PATH_SUFFIX =
+            ENROLLMENTS_PATH.substring(eventIdIndex(ENROLLMENTS_PATH) + EVENT_ID_VARIABLE.length());
+    private static final String PROFILE_PATH = "/docs/index.html#";
+
+    private ApiLinks() {
+    }
+
+    public static Link index() {
+        return Link.of(baseUri() + INDEX_PATH);
+    }
+
+    public static Link events() {
+        return Link.of(baseUri() + EVENTS_PATH);
+    }
+
+    public static Link event(Integer id) {
+        return Link.of(baseUri() + EVENTS_PATH + "/" + id);
+    }
+
+    public static Link enrollments(Integer eventId) {
+        return Link.of(baseUri() + ENROLLMENTS_PATH_PREFIX + eventId + ENROLLMENTS_PATH_SUFFIX);
+    }
+
+    /**
+     * REST Docs 문서의 절(section)을 가리키는 상대 링크.
+     */
+    public static Link profile(String section) {
+        return Link.of(PROFILE_PATH + section).withRel("profile");
+    }
+
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    private static String mappingOf(AnnotatedElement element) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(element, RequestMapping.class);
+        if (mapping == null || mapping.path().length == 0) {
+            throw new IllegalStateException("No request mapping on " + element);
+        }
+        return mapping.path()[0];
+    }
+
+    private static int eventIdIndex(String path) {
+        int index = path.indexOf(EVENT_ID_VARIABLE);
+        if (index < 0) {
+            throw new IllegalStateException("No " + EVENT_ID_VARIABLE + " in " + path);
+        }
+        return index;
+    }
+
+    private static AnnotatedElement indexMethod() {
+        try {
+            return IndexController.class.getMethod("index");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.yoojin.restapiwithspring.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * RFC 7396 JSON Merge Patch. 패치에 있는 멤버만 바꾸고, 값이 null 인 멤버는 지운다.
+ * 객체가 아닌 값(배열 포함)은 통째로 바꾼다.
+ */
+public final class JsonMergePatch {
+    public static final String MEDIA_TYPE_VALUE = "application/merge-patch+json";
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * target 이 객체이면 target 을 직접 고쳐서 돌려준다.
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.event.Event;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Builder @NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"}))
+public class Enrollment {
+    @Id
+    @GeneratedValue(generator = "enrollment_seq")
+    @GenericGenerator(name = "enrollment_seq", strategy = "com.yoojin.restapiwithspring.global.jpa.PooledLoSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "enrollment_seq"))
+    private Integer id;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JsonIgnore
+    private Event event;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JsonIgnore
+    private Account account;
+    /**
+     * 자리를 받은 EnrollmentCounter 의 stripe 번호. 취소할 때 같은 stripe 에 돌려준다. 인원 제한이 없으면 null.
+     */
+    @JsonIgnore
+    private Integer stripe;
+    private LocalDateTime enrolledAt;
+}
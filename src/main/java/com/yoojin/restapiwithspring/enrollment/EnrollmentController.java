@@ -0,0 +1,87 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.common.ApiLinks;
+import com.yoojin.restapiwithspring.common.ErrorsResource;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventService;
+import com.yoojin.restapiwithspring.global.async.AsyncHandlerExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Optional;
+
+/**
+ * 로그인한 계정의 참가 신청. 신청과 취소 모두 요청한 계정 자신의 신청만 다룬다.
+ */
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/events/{eventId}/enrollments", produces = MediaTypes.HAL_JSON_VALUE)
+@Controller
+public class EnrollmentController {
+    private final EnrollmentService enrollmentService;
+    private final EventService eventService;
+    private final AccountRepository accountRepository;
+    private final AsyncHandlerExecutor asyncHandlerExecutor;
+
+    /**
+     * 모집 중이 아니거나, 자리가 없거나, 이미 신청했으면 409 와 오류 code 를 돌려준다.
+     */
+    @PostMapping("")
+    public Object enroll(@PathVariable Integer eventId, Principal principal) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> addEnrollment(eventId, principal.getName()));
+    }
+
+    private ResponseEntity addEnrollment(Integer eventId, String email) {
+        Optional<Event> event = this.eventService.getEvent(eventId);
+        if (event.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        Optional<Integer> accountId = this.accountRepository.findIdByEmail(email);
+        if (accountId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Enrollment enrollment;
+        try {
+            enrollment = this.enrollmentService.enroll(event.get(), accountId.get(), LocalDateTime.now());
+        } catch (EnrollmentException e) {
+            Errors errors = new MapBindingResult(new HashMap<>(), "enrollment");
+            errors.reject(e.getCode(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorsResource(errors));
+        }
+        EnrollmentResource enrollmentResource = new EnrollmentResource(enrollment);
+        enrollmentResource.add(ApiLinks.profile("resources-enrollments-create"));
+        return ResponseEntity.status(HttpStatus.CREATED).body(enrollmentResource);
+    }
+
+    @DeleteMapping("")
+    public Object cancel(@PathVariable Integer eventId, Principal principal) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> cancelEnrollment(eventId, principal.getName()));
+    }
+
+    private ResponseEntity cancelEnrollment(Integer eventId, String email) {
+        Optional<Integer> accountId = this.accountRepository.findIdByEmail(email);
+        if (accountId.isEmpty() || !this.enrollmentService.cancel(eventId, accountId.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 비동기 모드에서 실행기의 대기열이 가득 차면 요청을 받지 않는다.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Object> taskRejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 이벤트의 모집 인원을 enrollment_stripe 테이블(schema.sql)의 여러 행에 나눠 담고 남은 자리를 센다.
+ * 자리는 "taken < capacity" 조건을 건 update 한 문장으로 받으므로 인원을 넘길 수 없고,
+ * 요청마다 임의의 stripe 부터 시도하므로 같은 이벤트에 몰린 트랜잭션이 한 행의 잠금을 기다리며 줄 서지 않는다.
+ * 받은 자리는 호출한 쪽 트랜잭션이 끝날 때 확정되고, 되돌리면 함께 돌아온다.
+ * 행마다 stripe 개수(stripes)와 만들 때의 모집 인원(total)을 함께 저장하고, 자리를 받을 때는 이 값을 읽는다.
+ * 모집 인원을 바꾸면 resize 가 같은 트랜잭션에서 행을 다시 나눈다. 다른 필드만 고친 수정은 stripe 를 건드리지 않는다.
+ */
+@Component
+public class EnrollmentCounter {
+    /**
+     * 모집 인원이 없는(0) 이벤트의 신청은 stripe 를 받지 않는다.
+     */
+    public static final int UNLIMITED = -1;
+
+    private static final String ACQUIRE_SQL = "update enrollment_stripe set taken = taken + 1 where event_id = ? and stripe = ? and taken < capacity";
+    private static final String RELEASE_SQL = "update enrollment_stripe set taken = taken - 1 where event_id = ? and stripe = ? and taken > 0";
+    private static final String STRIPES_AND_LIMIT_SQL = "select s.stripes, s.total, e.limit_of_enrollment from event e "
+            + "left join enrollment_stripe s on s.event_id = e.id and s.stripe = 0 where e.id = ?";
+    private static final String LOCK_LIMIT_SQL = "select limit_of_enrollment from event where id = ? for update";
+    private static final String LOCK_STRIPES_SQL = "select stripe, total from enrollment_stripe where event_id = ? order by stripe for update";
+    private static final String INSERT_SQL = "insert into enrollment_stripe (event_id, stripe, capacity, taken, stripes, total) values ";
+    private static final String UPDATE_SQL = "update enrollment_stripe set capacity = ?, taken = ?, stripes = ?, total = ? where event_id = ? and stripe = ?";
+    private static final String DELETE_SQL = "delete from enrollment_stripe where event_id = ? and stripe >= ?";
+    private static final String COUNT_ENROLLMENTS_SQL = "select count(*) from enrollment where event_id = ?";
+    private static final String ASSIGN_STRIPES_SQL = "update enrollment set stripe = mod(id, ?) where event_id = ? and (stripe is null or stripe >= ?)";
+    private static final String CLEAR_STRIPES_SQL = "update enrollment set stripe = null where event_id = ? and stripe is not null";
+    private static final String TAKEN_BY_STRIPE_SQL = "select stripe, count(*) from enrollment where event_id = ? group by stripe";
+    private static final String TAKEN_SQL = "select coalesce(sum(taken), 0) from enrollment_stripe where event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EnrollmentProperties properties;
+    private final TransactionTemplate transaction;
+
+    public EnrollmentCounter(JdbcTemplate jdbcTemplate, EnrollmentProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이벤트의 stripe 가 없거나 지금 모집 인원으로 만든 것이 아니면 resize 로 다시 만든다. 신청 트랜잭션을 열기 전에 부른다.
+     * 짧은 트랜잭션으로 따로 커밋하므로 다른 요청이 곧바로 쓸 수 있고, 신청 트랜잭션이 이벤트 행을 잠그며 기다리지 않는다.
+     * 다른 요청이나 노드가 먼저 만들었으면 그대로 쓴다.
+     */
+    public void prepare(int eventId) {
+        Map<String, Object> row = this.jdbcTemplate.queryForMap(STRIPES_AND_LIMIT_SQL, eventId);
+        int limitOfEnrollment = ((Number) row.get("limit_of_enrollment")).intValue();
+        if (limitOfEnrollment <= 0 || (row.get("stripes") != null && ((Number) row.get("total")).intValue() == limitOfEnrollment)) {
+            return;
+        }
+        this.transaction.executeWithoutResult(status -> resize(eventId));
+    }
+
+    /**
+     * 신청 트랜잭션 안에서 부른다. 자리를 하나 받으면 그 stripe 번호를, 모집 인원이 없는 이벤트면 UNLIMITED 를,
+     * 남은 자리가 없으면 빈 값을 돌려준다. prepare 를 먼저 불러야 한다.
+     * stripe 개수는 캐시된 이벤트의 모집 인원이 아니라 행에 저장된 값을 쓰므로 다른 노드가 resize 한 결과를 바로 따른다.
+     * 모집 인원이 없으면 이벤트 행을 잠근 다음 다시 읽는다. resize 는 같은 행을 잠근 채 신청 수를 세므로,
+     * 그 사이에 제한 없이 받은 신청이 세어지지 않고 남는 일이 없다.
+     */
+    public OptionalInt tryAcquire(int eventId) {
+        Map<String, Object> row = this.jdbcTemplate.queryForMap(STRIPES_AND_LIMIT_SQL, eventId);
+        int limitOfEnrollment = ((Number) row.get("limit_of_enrollment")).intValue();
+        if (limitOfEnrollment <= 0) {
+            limitOfEnrollment = this.jdbcTemplate.queryForObject(LOCK_LIMIT_SQL, Integer.class, eventId);
+            if (limitOfEnrollment <= 0) {
+                return OptionalInt.of(UNLIMITED);
+            }
+            row = this.jdbcTemplate.queryForMap(STRIPES_AND_LIMIT_SQL, eventId);
+        }
+        // prepare 와 이 트랜잭션 사이에 모집 인원이 바뀌었으면 받지 않는다. 인원을 넘겨 받는 것보다 한 번 거절하는 편이 낫다.
+        if (row.get("stripes") == null || ((Number) row.get("total")).intValue() != limitOfEnrollment) {
+            return OptionalInt.empty();
+        }
+
+        int stripes = ((Number) row.get("stripes")).intValue();
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int stripe = (start + i) % stripes;
+            if (this.jdbcTemplate.update(ACQUIRE_SQL, eventId, stripe) == 1) {
+                return OptionalInt.of(stripe);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    public void release(int eventId, int stripe) {
+        this.jdbcTemplate.update(RELEASE_SQL, eventId, stripe);
+    }
+
+    /**
+     * 모집 인원을 바꾼 트랜잭션 안에서 부른다. 먼저 stripe 행을 모두 잠가서 자리를 받는 중인 트랜잭션이 끝나기를 기다린 뒤
+     * 이벤트 행을 잠가서 같은 이벤트의 resize 와 prepare 를 한 줄로 세우고 신청 수를 센다.
+     * 신청 트랜잭션도 stripe 행을 받은 다음 신청을 넣으며 이벤트 행을 참조하므로, 같은 순서로 잠가야 서로 기다리며 멈추지 않는다.
+     * 이벤트 행을 기다리는 동안 다른 resize 가 stripe 를 바꿨을 수 있으므로 잠근 뒤 stripe 행을 다시 읽는다.
+     * 남은 자리는 새 stripe 개수로 다시 나누고, 잠금을 기다리던 신청은 커밋 뒤 고친 행으로 다시 검사한다.
+     * 모집 인원이 0 이면 stripe 를 지운다. 이미 받은 신청보다 적으면 EnrollmentException(LIMIT_BELOW_ENROLLED) 을 던져서 트랜잭션을 되돌린다.
+     */
+    public void resize(int eventId) {
+        this.jdbcTemplate.queryForList(LOCK_STRIPES_SQL, eventId);
+        int limitOfEnrollment = this.jdbcTemplate.queryForObject(LOCK_LIMIT_SQL, Integer.class, eventId);
+        List<Map<String, Object>> locked = this.jdbcTemplate.queryForList(LOCK_STRIPES_SQL, eventId);
+        if (locked.isEmpty() ? limitOfEnrollment <= 0 : ((Number) locked.get(0).get("total")).intValue() == limitOfEnrollment) {
+            return;
+        }
+        if (limitOfEnrollment <= 0) {
+            this.jdbcTemplate.update(DELETE_SQL, eventId, 0);
+            this.jdbcTemplate.update(CLEAR_STRIPES_SQL, eventId);
+            return;
+        }
+
+        int enrolled = this.jdbcTemplate.queryForObject(COUNT_ENROLLMENTS_SQL, Integer.class, eventId);
+        if (enrolled > limitOfEnrollment) {
+            throw new EnrollmentException(EnrollmentException.LIMIT_BELOW_ENROLLED,
+                    "limitOfEnrollment " + limitOfEnrollment + " is less than " + enrolled + " enrollments");
+        }
+        int stripeCount = stripeCount(limitOfEnrollment);
+        Map<Integer, Integer> taken = new HashMap<>();
+        if (enrolled > 0) {
+            this.jdbcTemplate.update(ASSIGN_STRIPES_SQL, stripeCount, eventId, stripeCount);
+            this.jdbcTemplate.query(TAKEN_BY_STRIPE_SQL, rs -> {
+                taken.put(rs.getInt(1), rs.getInt(2));
+            }, eventId);
+        }
+        int remaining = limitOfEnrollment - enrolled;
+        List<Object[]> updates = new ArrayList<>(stripeCount);
+        List<Object> inserts = new ArrayList<>();
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            int stripeTaken = taken.getOrDefault(stripe, 0);
+            int capacity = stripeTaken + remaining / stripeCount + (stripe < remaining % stripeCount ? 1 : 0);
+            if (stripe < locked.size()) {
+                updates.add(new Object[]{capacity, stripeTaken, stripeCount, limitOfEnrollment, eventId, stripe});
+            } else {
+                Collections.addAll(inserts, eventId, stripe, capacity, stripeTaken, stripeCount, limitOfEnrollment);
+            }
+        }
+        if (!updates.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (locked.size() > stripeCount) {
+            this.jdbcTemplate.update(DELETE_SQL, eventId, stripeCount);
+        }
+        if (!inserts.isEmpty()) {
+            this.jdbcTemplate.update(INSERT_SQL + String.join(", ", Collections.nCopies(inserts.size() / 6, "(?, ?, ?, ?, ?, ?)")),
+                    inserts.toArray());
+        }
+    }
+
+    public int taken(int eventId) {
+        return this.jdbcTemplate.queryForObject(TAKEN_SQL, Integer.class, eventId);
+    }
+
+    private int stripeCount(int limitOfEnrollment) {
+        return Math.max(1, Math.min(this.properties.getStripes(), limitOfEnrollment));
+    }
+}
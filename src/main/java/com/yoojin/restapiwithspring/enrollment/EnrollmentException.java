@@ -0,0 +1,25 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import lombok.Getter;
+
+/**
+ * 참가 신청을 받을 수 없는 경우. code 는 오류 응답의 code 로 그대로 내보낸다.
+ * RuntimeException 이므로 EnrollmentService 의 트랜잭션을 되돌리고, 이미 받은 자리도 함께 돌려준다.
+ */
+@Getter
+public class EnrollmentException extends RuntimeException {
+    public static final String CLOSED = "enrollmentClosed";
+    public static final String FULL = "enrollmentFull";
+    public static final String ALREADY_ENROLLED = "alreadyEnrolled";
+    /**
+     * 모집 인원을 이미 받은 신청 수보다 적게 줄이려 했다. 이벤트 수정에서 400 으로 내보낸다.
+     */
+    public static final String LIMIT_BELOW_ENROLLED = "limitBelowEnrollments";
+
+    private final String code;
+
+    public EnrollmentException(String code, String message) {
+        super(message);
+        this.code = code;
+    }
+}
@@ -0,0 +1,17 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "enrollment")
+public class EnrollmentProperties {
+    /**
+     * 이벤트 하나의 모집 인원을 나눠 담는 행 수. 동시에 자리를 받을 수 있는 트랜잭션 수가 이만큼 늘어난다.
+     * 모집 인원보다 크면 모집 인원만큼만 만든다.
+     */
+    private int stripes = 16;
+}
@@ -0,0 +1,22 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 파생 쿼리(findByEventIdAndAccountId)는 event 와 account 를 조인하므로, 외래 키 컬럼만 보는 JPQL 로
+ * uk_enrollment_event_account 인덱스를 타게 한다.
+ */
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Integer> {
+    @Query("select e from Enrollment e where e.event.id = :eventId and e.account.id = :accountId")
+    Optional<Enrollment> findByEventIdAndAccountId(@Param("eventId") Integer eventId, @Param("accountId") Integer accountId);
+
+    @Query("select count(e) > 0 from Enrollment e where e.event.id = :eventId and e.account.id = :accountId")
+    boolean existsByEventIdAndAccountId(@Param("eventId") Integer eventId, @Param("accountId") Integer accountId);
+
+    @Query("select count(e) from Enrollment e where e.event.id = :eventId")
+    long countByEventId(@Param("eventId") Integer eventId);
+}
@@ -0,0 +1,17 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.yoojin.restapiwithspring.common.ApiLinks;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+import java.util.Arrays;
+
+public class EnrollmentResource extends EntityModel<Enrollment> {
+
+    public EnrollmentResource(Enrollment enrollment, Link... links) {
+        super(enrollment, Arrays.asList(links));
+        Integer eventId = enrollment.getEvent().getId();
+        add(ApiLinks.enrollments(eventId).withSelfRel());
+        add(ApiLinks.event(eventId).withRel("event"));
+    }
+}
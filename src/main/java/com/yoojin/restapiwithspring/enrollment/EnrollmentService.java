@@ -0,0 +1,94 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventStatus;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+@Service
+public class EnrollmentService {
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentCounter enrollmentCounter;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+
+    public EnrollmentService(EnrollmentRepository enrollmentRepository, EnrollmentCounter enrollmentCounter,
+                             EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentCounter = enrollmentCounter;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * event 는 EventService 의 캐시에서 꺼낸 인스턴스여도 된다. 상태와 모집 기간, 모집 인원만 읽는다.
+     * EventStatusScheduler 가 상태를 늦게 옮길 수 있으므로 PUBLISHED 도 모집 기간 안이면 받는다.
+     * 모집 인원이 0 이면 제한 없이 받는다. 캐시된 모집 인원은 stripe 를 준비할지만 정하고, 자리는 DB 의 값으로 센다.
+     * stripe 를 만든 다음에 트랜잭션을 연다. EnrollmentException 이 나면 트랜잭션과 함께 받은 자리도 되돌린다.
+     */
+    public Enrollment enroll(Event event, Integer accountId, LocalDateTime now) {
+        if (!isOpen(event, now)) {
+            throw new EnrollmentException(EnrollmentException.CLOSED, "Enrollment for this event is not open");
+        }
+        if (event.getLimitOfEnrollment() > 0) {
+            this.enrollmentCounter.prepare(event.getId());
+        }
+        return this.transaction.execute(status -> addEnrollment(event, accountId, now));
+    }
+
+    private Enrollment addEnrollment(Event event, Integer accountId, LocalDateTime now) {
+        if (this.enrollmentRepository.existsByEventIdAndAccountId(event.getId(), accountId)) {
+            throw new EnrollmentException(EnrollmentException.ALREADY_ENROLLED, "Account is already enrolled in this event");
+        }
+
+        OptionalInt acquired = this.enrollmentCounter.tryAcquire(event.getId());
+        if (acquired.isEmpty()) {
+            throw new EnrollmentException(EnrollmentException.FULL, "Event is full");
+        }
+        Integer stripe = acquired.getAsInt() == EnrollmentCounter.UNLIMITED ? null : acquired.getAsInt();
+
+        Enrollment enrollment = Enrollment.builder()
+                .event(this.entityManager.getReference(Event.class, event.getId()))
+                .account(this.entityManager.getReference(Account.class, accountId))
+                .stripe(stripe)
+                .enrolledAt(now)
+                .build();
+        try {
+            return this.enrollmentRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 계정의 요청이 동시에 들어와 existsBy 를 함께 통과했다. 받은 자리는 롤백으로 돌아간다.
+            throw new EnrollmentException(EnrollmentException.ALREADY_ENROLLED, "Account is already enrolled in this event");
+        }
+    }
+
+    /**
+     * 신청을 지우고 자리를 돌려준다. 신청이 없으면 false.
+     */
+    @Transactional
+    public boolean cancel(Integer eventId, Integer accountId) {
+        Optional<Enrollment> enrollment = this.enrollmentRepository.findByEventIdAndAccountId(eventId, accountId);
+        if (enrollment.isEmpty()) {
+            return false;
+        }
+        this.enrollmentRepository.delete(enrollment.get());
+        if (enrollment.get().getStripe() != null) {
+            this.enrollmentCounter.release(eventId, enrollment.get().getStripe());
+        }
+        return true;
+    }
+
+    private boolean isOpen(Event event, LocalDateTime now) {
+        return (event.getEventStatus() == EventStatus.PUBLISHED || event.getEventStatus() == EventStatus.BEGAN_ENROLLMENT)
+                && !now.isBefore(event.getBeginEnrollmentDateTime())
+                && now.isBefore(event.getCloseEnrollmentDateTime());
+    }
+}
@@ -1,12 +1,20 @@
 package com.yoojin.restapiwithspring.event;
 
 //import com.yoojin.restapiwithspring.account.Account;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.yoojin.restapiwithspring.account.Account;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
+/**
+ * 수정할 때 바뀐 컬럼만 UPDATE 에 넣는다(@DynamicUpdate). PATCH 로 한두 필드만 바꾸는 경우가 많다.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,9 +22,31 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(of = "id")
 @Builder
 @Entity
+@DynamicUpdate
+@NamedEntityGraph(name = "Event.manager", attributeNodes = @NamedAttributeNode("manager"))
+@Table(indexes = {
+        @Index(name = "idx_event_name_id", columnList = "name, id"),
+        @Index(name = "idx_event_begin_event_date_time_id", columnList = "beginEventDateTime, id"),
+        @Index(name = "idx_event_event_status_id", columnList = "eventStatus, id"),
+        @Index(name = "idx_event_base_price_id", columnList = "basePrice, id"),
+        @Index(name = "idx_event_enrollment_period", columnList = "beginEnrollmentDateTime, closeEnrollmentDateTime"),
+        @Index(name = "idx_event_status_begin_enrollment", columnList = "eventStatus, beginEnrollmentDateTime"),
+        @Index(name = "idx_event_status_close_enrollment", columnList = "eventStatus, closeEnrollmentDateTime"),
+        @Index(name = "idx_event_status_begin_event", columnList = "eventStatus, beginEventDateTime"),
+        @Index(name = "idx_event_status_end_event", columnList = "eventStatus, endEventDateTime")
+})
 public class Event {
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "event_seq")
+    @GenericGenerator(name = "event_seq", strategy = "com.yoojin.restapiwithspring.global.jpa.PooledLoSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "event_seq"))
     private Integer id;
+    /**
+     * 응답 본문 대신 ETag 헤더로 내보낸다.
+     */
+    @Version
+    @JsonIgnore
+    private Long version;
     private boolean offline;
     private boolean free;
     @Enumerated(EnumType.STRING)
@@ -31,7 +61,11 @@ public class Event {
     private int basePrice;
     private int maxPrice;
     private int limitOfEnrollment;
-    @ManyToOne
+    /**
+     * 필요한 곳에서만 Event.manager 엔티티 그래프로 함께 읽는다. 응답에는 id 와 email 만 내보낸다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JsonIgnoreProperties({"password", "roles", "hibernateLazyInitializer", "handler"})
     private Account manager;
 
     public void update() {
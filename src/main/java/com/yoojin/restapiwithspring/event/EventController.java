@@ -1,98 +1,434 @@
 package com.yoojin.restapiwithspring.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yoojin.restapiwithspring.common.ApiLinks;
 import com.yoojin.restapiwithspring.common.ErrorsResource;
+import com.yoojin.restapiwithspring.common.JsonMergePatch;
+import com.yoojin.restapiwithspring.enrollment.EnrollmentException;
+import com.yoojin.restapiwithspring.global.aop.config.BinaryFormatConfig;
+import com.yoojin.restapiwithspring.global.async.AsyncHandlerExecutor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
+/**
+ * 응답은 HAL JSON 이 기본이고, Accept 로 CBOR 나 Smile 을 고를 수 있다 (BinaryFormatConfig).
+ * POST, PUT 본문도 Content-Type 에 맞는 컨버터로 읽는다.
+ */
 @RequiredArgsConstructor
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+@RequestMapping(value = "/api/events",
+        produces = {MediaTypes.HAL_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE})
 @Controller
 public class EventController {
+    static final int MAX_BATCH_SIZE = 1000;
+    private static final String EVENT_STATUS = "eventStatus";
 
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventService eventService;
+    private final EventExporter eventExporter;
+    private final EventMapper eventMapper;
     private final EventValidator eventValidator;
+    private final AsyncHandlerExecutor asyncHandlerExecutor;
+    private final ObjectMapper objectMapper;
 
-
-    @Transactional(readOnly = true)
+    /**
+     * after 파라미터가 있으면 keyset(커서) 모드로 조회한다. 첫 페이지는 after 를 빈 값으로 보낸다.
+     * keyset 모드에서는 count=true 일 때만 전체 개수 쿼리를 실행한다.
+     * 이 클래스의 핸들러는 AsyncHandlerExecutor 를 거쳐 실행되므로 반환 타입이 Object 다.
+     * 핸들러에서 트랜잭션을 열면 비동기 모드에서 서블릿 스레드가 커넥션을 잡은 채로 작업을 넘기게 되므로 열지 않는다.
+     * fields 파라미터(쉼표로 구분)가 있으면 고른 필드의 컬럼만 읽고 그 필드와 _links 만 내보낸다.
+     */
     @GetMapping("")
-    public ResponseEntity getEvents(Pageable pageable, PagedResourcesAssembler assembler) {
-        Page<Event> events = this.eventRepository.findAll(pageable);
-        PagedModel<EntityModel<Event>> pagedModel = assembler.toModel(events, e -> new EventResource((Event) e));
-        pagedModel.add(Link.of("/docs/index.html#resource-events-list").withRel("profile"));
-        return ResponseEntity.status(HttpStatus.OK).body(pagedModel);
+    public Object getEvents(Pageable pageable, PagedResourcesAssembler assembler,
+                            @RequestParam(required = false) String after,
+                            @RequestParam(defaultValue = "false") boolean count,
+                            @RequestParam(required = false) String fields,
+                            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        EventFields eventFields;
+        try {
+            eventFields = fields == null ? null : EventFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return wrongFields(e.getMessage());
+        }
+        return this.asyncHandlerExecutor.execute(() -> after != null
+                ? getEventsAfter(after, count, eventFields, pageable, assembler, ifNoneMatch)
+                : getEventsPage(eventFields, pageable, assembler, ifNoneMatch));
+    }
+
+    private ResponseEntity getEventsPage(EventFields fields, Pageable pageable, PagedResourcesAssembler assembler, String ifNoneMatch) {
+        Page<EventSummary> events = fields == null
+                ? this.eventRepository.findAllSummaries(pageable)
+                : this.eventRepository.findAllSummaries(fields, pageable);
+        String eTag = EventETag.of(events.getContent(), events.getTotalElements(), events.hasNext());
+        if (EventETag.notModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        PagedModel<EntityModel<?>> pagedModel = assembler.toModel(events, e -> toResource((EventSummary) e, fields));
+        pagedModel.add(ApiLinks.profile("resource-events-list"));
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(pagedModel);
+    }
+
+    private ResponseEntity getEventsAfter(String after, boolean count, EventFields fields, Pageable pageable,
+                                          PagedResourcesAssembler assembler, String ifNoneMatch) {
+        Slice<EventSummary> events;
+        try {
+            EventCursor cursor = after.isEmpty() ? null : EventCursor.decode(after);
+            events = fields == null
+                    ? this.eventRepository.findAllAfter(cursor, pageable)
+                    : this.eventRepository.findAllAfter(cursor, fields, pageable);
+        } catch (IllegalArgumentException e) {
+            Errors errors = new MapBindingResult(new HashMap<>(), "eventCursor");
+            errors.reject("wrongCursor", "Value for after cursor is wrong");
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
+
+        long total = count ? this.eventRepository.count() : events.getNumberOfElements();
+        String eTag = EventETag.of(events.getContent(), total, events.hasNext());
+        if (EventETag.notModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        Page<EventSummary> page = new PageImpl<>(events.getContent(), events.getPageable(), total);
+        Link selfLink = Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString());
+        PagedModel<EntityModel<?>> assembled = assembler.toModel(page, e -> toResource((EventSummary) e, fields), selfLink);
+        // 페이지 번호 기반의 first/prev/last 링크는 커서 모드에서 의미가 없으므로 버리고 next 만 커서로 만든다.
+        PagedModel<EntityModel<?>> pagedModel = PagedModel.of(assembled.getContent(),
+                count ? assembled.getMetadata() : null, selfLink);
+        if (events.hasNext()) {
+            EventSummary last = events.getContent().get(events.getNumberOfElements() - 1);
+            EventCursor next = EventCursor.of(last, EventCursor.keysetOrder(events.getPageable().getSort()));
+            pagedModel.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page")
+                    .replaceQueryParam("after", next.encode())
+                    .toUriString()).withRel(IanaLinkRelations.NEXT));
+        }
+        pagedModel.add(ApiLinks.profile("resource-events-list"));
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(pagedModel);
+    }
+
+    /**
+     * 조건으로 걸러낸 이벤트를 목록 조회와 같은 형태로 돌려준다. 정렬은 keyset 정렬 키와 같은 속성만 받는다.
+     */
+    @GetMapping("/search")
+    public Object searchEvents(@Valid EventSearch search, Errors errors, Pageable pageable, PagedResourcesAssembler assembler,
+                               @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> findEvents(search, errors, pageable, assembler, ifNoneMatch));
+    }
+
+    private ResponseEntity findEvents(EventSearch search, Errors errors, Pageable pageable, PagedResourcesAssembler assembler,
+                                      String ifNoneMatch) {
+        if (errors.hasErrors()) {
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
+        this.eventValidator.validate(search, errors);
+        if (pageable.getSort().stream().anyMatch(order -> !EventCursor.isSortable(order.getProperty()))) {
+            errors.reject("wrongSort", "Values for sort are wrong");
+        }
+        if (errors.hasErrors()) {
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
+
+        Page<EventSummary> events = this.eventRepository.search(search, pageable);
+        String eTag = EventETag.of(events.getContent(), events.getTotalElements(), events.hasNext());
+        if (EventETag.notModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        PagedModel<EntityModel<EventSummary>> pagedModel = assembler.toModel(events, e -> new EventSummaryResource((EventSummary) e));
+        pagedModel.add(ApiLinks.profile("resources-events-search"));
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(pagedModel);
     }
+
+    @GetMapping(value = "/export", produces = EventExporter.APPLICATION_NDJSON_VALUE)
+    public void exportEvents(HttpServletResponse response) throws IOException {
+        response.setContentType(EventExporter.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        this.eventExporter.export(response.getOutputStream());
+    }
+
+    /**
+     * If-None-Match 가 있으면 버전만 조회해서 바뀌지 않았을 때 엔티티를 읽지 않고 304 를 돌려준다.
+     */
     @GetMapping("{id}")
-    public ResponseEntity getEvent(@PathVariable Integer id) {
-        Optional<Event> optionalEvent = this.eventRepository.findById(id);
+    public Object getEvent(@PathVariable Integer id,
+                           @RequestParam(required = false) String fields,
+                           @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        EventFields eventFields;
+        try {
+            eventFields = fields == null ? null : EventFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return wrongFields(e.getMessage());
+        }
+        return this.asyncHandlerExecutor.execute(() -> findEvent(id, eventFields, ifNoneMatch));
+    }
+
+    /**
+     * fields 가 있어도 단건은 캐시(EventService.getEvent)에서 읽고 응답만 줄인다. 캐시에 없을 때 한 번 읽는 행은 좁히지 않는다.
+     * If-None-Match 로 읽은 ETag 와 캐시된 이벤트의 ETag 가 다르면 캐시가 뒤처진 것이므로 다시 읽어서 캐시를 바꾼다.
+     */
+    private ResponseEntity findEvent(Integer id, EventFields fields, String ifNoneMatch) {
+        String currentETag = null;
+        if (ifNoneMatch != null) {
+            Optional<EventRepository.EventVersion> version = this.eventRepository.findVersionById(id);
+            if (version.isPresent()) {
+                currentETag = EventETag.of(version.get());
+                if (EventETag.notModified(ifNoneMatch, currentETag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+                }
+            }
+        }
+        Optional<Event> optionalEvent = this.eventService.getEvent(id);
+        if (currentETag != null && optionalEvent.isPresent() && !currentETag.equals(EventETag.of(optionalEvent.get()))) {
+            optionalEvent = this.eventService.refreshEvent(id);
+        }
         if(optionalEvent.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        EventResource eventResource = new EventResource(optionalEvent.get());
-        eventResource.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
-        return ResponseEntity.status(HttpStatus.OK).body(eventResource);
+        Event event = optionalEvent.get();
+        EntityModel<?> eventResource = fields == null ? new EventResource(event) : toResource(EventSummary.of(event), fields);
+        eventResource.add(ApiLinks.profile("resources-events-get"));
+        return ResponseEntity.status(HttpStatus.OK).eTag(EventETag.of(event)).body(eventResource);
     }
 
-    @PostMapping("")
-    public ResponseEntity createEvent(@RequestBody @Valid EventDto eventDto, Errors errors) {
-        if(errors.hasErrors()) {
-            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+    private static EntityModel<?> toResource(EventSummary event, EventFields fields) {
+        if (fields == null) {
+            return new EventSummaryResource(event);
         }
+        return EntityModel.of(fields.write(event), ApiLinks.event(event.getId()).withSelfRel());
+    }
+
+    private static ResponseEntity<Object> wrongFields(String message) {
+        Errors errors = new MapBindingResult(new HashMap<>(), "fields");
+        errors.reject(EventFields.WRONG_FIELDS, message);
+        return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+    }
 
-        eventValidator.validate(eventDto, errors);
+    /**
+     * 본문 검사는 EventValidator 한 곳에서 한다. 그래서 @Valid 를 붙이지 않는다.
+     */
+    @PostMapping("")
+    public Object createEvent(@RequestBody EventDto eventDto) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> addEvent(eventDto));
+    }
+
+    private ResponseEntity addEvent(EventDto eventDto) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        this.eventValidator.validate(eventDto, errors);
         if(errors.hasErrors()) {
             return ResponseEntity.badRequest().body(new ErrorsResource(errors));
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
+        Event event = this.eventMapper.toEvent(eventDto);
         event.update();
-        Event newEvent = this.eventRepository.save(event);
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+        Event newEvent = this.eventService.saveEvent(event);
+        Link selfLink = ApiLinks.event(newEvent.getId());
+        URI createdUri = selfLink.toUri();
         EventResource eventResource = new EventResource(event);
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(selfLinkBuilder.withSelfRel().withRel("update"));
-        eventResource.add(Link.of("/docs/index.html#resource-events-create").withRel("profile"));
-        return ResponseEntity.created(createdUri).body(eventResource);
+        eventResource.add(ApiLinks.events().withRel("query-events"));
+        eventResource.add(selfLink.withRel("update"));
+        eventResource.add(ApiLinks.profile("resource-events-create"));
+        return ResponseEntity.created(createdUri).eTag(EventETag.of(newEvent)).body(eventResource);
     }
+
+    /**
+     * 여러 이벤트를 한 트랜잭션에서 JDBC batch insert 로 만든다.
+     * 하나라도 잘못되면 아무것도 저장하지 않고, 오류마다 objectName 에 "events[순번]" 을 담아 돌려준다.
+     */
+    @PostMapping("/batch")
+    public Object createEvents(@RequestBody List<EventDto> eventDtos) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> addEvents(eventDtos));
+    }
+
+    private ResponseEntity addEvents(List<EventDto> eventDtos) {
+        MapBindingResult errors = new MapBindingResult(new HashMap<>(), "events");
+        if (eventDtos.isEmpty() || eventDtos.size() > MAX_BATCH_SIZE) {
+            errors.reject("wrongBatchSize", "Number of events must be between 1 and " + MAX_BATCH_SIZE);
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
+
+        List<Event> events = new ArrayList<>(eventDtos.size());
+        for (int i = 0; i < eventDtos.size(); i++) {
+            EventDto eventDto = eventDtos.get(i);
+            if (eventDto == null) {
+                errors.addError(new ObjectError("events[" + i + "]", new String[]{"nullEvent"}, null,
+                        "Event must not be null"));
+                continue;
+            }
+            BeanPropertyBindingResult itemErrors = new BeanPropertyBindingResult(eventDto, "events[" + i + "]");
+            this.eventValidator.validate(eventDto, itemErrors);
+            if (itemErrors.hasErrors()) {
+                itemErrors.getAllErrors().forEach(errors::addError);
+                continue;
+            }
+            Event event = this.eventMapper.toEvent(eventDto);
+            event.update();
+            events.add(event);
+        }
+        if (errors.hasErrors()) {
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
+
+        List<EventResource> eventResources = this.eventService.saveEvents(events).stream()
+                .map(EventResource::new)
+                .collect(Collectors.toList());
+        CollectionModel<EventResource> collectionModel = CollectionModel.of(eventResources);
+        collectionModel.add(ApiLinks.events().withRel("query-events"));
+        collectionModel.add(ApiLinks.profile("resources-events-batch"));
+        return ResponseEntity.status(HttpStatus.CREATED).body(collectionModel);
+    }
+
+    /**
+     * 본문을 먼저 검사해서 잘못된 요청은 DB 를 읽지 않고 400 을 돌려준다.
+     * If-Match 가 현재 버전과 다르면 412 를 돌려준다. 확인과 저장 사이에 다른 수정이 끼어들면 @Version 이 막는다.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Object> updateEvent(@PathVariable(name = "id") Integer id,
-                                      @RequestBody @Valid EventDto eventDto,
-                                      Errors errors) {
-        Optional<Event> optionalEvent = this.eventRepository.findById(id);
+    public Object updateEvent(@PathVariable(name = "id") Integer id,
+                              @RequestBody EventDto eventDto,
+                              @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> changeEvent(id, eventDto, ifMatch));
+    }
 
-        if (optionalEvent.isEmpty()) return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        if(errors.hasErrors()) return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorsResource(errors));
+    private ResponseEntity<Object> changeEvent(Integer id, EventDto eventDto, String ifMatch) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
         this.eventValidator.validate(eventDto, errors);
         if(errors.hasErrors()) return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorsResource(errors));
+
+        Optional<Event> optionalEvent = this.eventService.getEventForUpdate(id);
+        if (optionalEvent.isEmpty()) return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        if (ifMatch != null && !EventETag.matches(ifMatch, EventETag.of(optionalEvent.get()))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         //eventDto를 존재하는 이벤트로 변환한다.
         Event existingEvent = optionalEvent.get();
-        this.modelMapper.map(eventDto, existingEvent);
-        Event savedEvent = this.eventRepository.save(existingEvent);
+        int limitOfEnrollment = existingEvent.getLimitOfEnrollment();
+        this.eventMapper.merge(eventDto, existingEvent);
+        Event savedEvent;
+        try {
+            savedEvent = this.eventService.saveEvent(existingEvent, limitOfEnrollment);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (EnrollmentException e) {
+            errors.rejectValue("limitOfEnrollment", e.getCode(), e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
+
+        EventResource eventResource = new EventResource(savedEvent);
+        eventResource.add(ApiLinks.profile("resource-events-update"));
+        return ResponseEntity.status(HttpStatus.OK).eTag(EventETag.of(savedEvent)).body(eventResource);
+    }
+
+    /**
+     * JSON Merge Patch. 보낸 필드만 바꾸고 나머지는 현재 값을 유지한다.
+     * 현재 값에 패치를 덮어쓴 결과를 PUT 과 같은 규칙으로 검사하고, UPDATE 에는 바뀐 컬럼만 들어간다.
+     * EventDto 에 없는 필드가 있거나 타입이 맞지 않으면 wrongPatch 로 400 을 돌려준다.
+     * eventStatus 는 EventDto 에 없지만 EventStatus.canChangeTo 가 허락하는 전이만 받고, 나머지는 wrongEventStatus 로 400 이다.
+     */
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatch.MEDIA_TYPE_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Object patchEvent(@PathVariable(name = "id") Integer id,
+                             @RequestBody JsonNode patch,
+                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws Exception {
+        return this.asyncHandlerExecutor.execute(() -> applyPatch(id, patch, ifMatch));
+    }
+
+    private ResponseEntity<Object> applyPatch(Integer id, JsonNode patch, String ifMatch) {
+        if (!patch.isObject()) return wrongPatch("Merge patch must be a JSON object");
+
+        Optional<Event> optionalEvent = this.eventService.getEventForUpdate(id);
+        if (optionalEvent.isEmpty()) return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        if (ifMatch != null && !EventETag.matches(ifMatch, EventETag.of(optionalEvent.get()))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+
+        Event existingEvent = optionalEvent.get();
+        EventStatus eventStatus = existingEvent.getEventStatus();
+        EventDto eventDto;
+        try {
+            if (patch.has(EVENT_STATUS)) {
+                JsonNode statusPatch = patch.get(EVENT_STATUS);
+                if (statusPatch.isNull()) return wrongPatch("eventStatus cannot be removed");
+                eventStatus = this.objectMapper.treeToValue(statusPatch, EventStatus.class);
+                patch = ((ObjectNode) patch).deepCopy().without(EVENT_STATUS);
+            }
+            JsonNode merged = JsonMergePatch.apply(this.objectMapper.valueToTree(this.eventMapper.toDto(existingEvent)), patch);
+            eventDto = this.objectMapper.treeToValue(merged, EventDto.class);
+        } catch (JsonProcessingException e) {
+            return wrongPatch(e.getOriginalMessage());
+        }
+        if (!existingEvent.getEventStatus().canChangeTo(eventStatus)) {
+            Errors statusErrors = new MapBindingResult(new HashMap<>(Map.of(EVENT_STATUS, eventStatus)), "patch");
+            statusErrors.rejectValue(EVENT_STATUS, "wrongEventStatus",
+                    "Cannot change eventStatus from " + existingEvent.getEventStatus() + " to " + eventStatus);
+            return ResponseEntity.badRequest().body(new ErrorsResource(statusErrors));
+        }
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        this.eventValidator.validate(eventDto, errors);
+        if(errors.hasErrors()) return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorsResource(errors));
+
+        int limitOfEnrollment = existingEvent.getLimitOfEnrollment();
+        this.eventMapper.merge(eventDto, existingEvent);
+        existingEvent.setEventStatus(eventStatus);
+        Event savedEvent;
+        try {
+            savedEvent = this.eventService.saveEvent(existingEvent, limitOfEnrollment);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (EnrollmentException e) {
+            errors.rejectValue("limitOfEnrollment", e.getCode(), e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        }
 
         EventResource eventResource = new EventResource(savedEvent);
-        eventResource.add(Link.of("/docs/index.html#resource-events-update").withRel("profile"));
-        return ResponseEntity.status(HttpStatus.OK).body(eventResource);
+        eventResource.add(ApiLinks.profile("resources-events-patch"));
+        return ResponseEntity.status(HttpStatus.OK).eTag(EventETag.of(savedEvent)).body(eventResource);
+    }
+
+    private ResponseEntity<Object> wrongPatch(String message) {
+        Errors errors = new MapBindingResult(new HashMap<>(), "patch");
+        errors.reject("wrongPatch", message);
+        return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+    }
+
+    /**
+     * 비동기 모드에서 실행기의 대기열이 가득 차면 요청을 받지 않는다.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Object> taskRejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
     }
 
 }
@@ -0,0 +1,111 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지네이션에 사용하는 불투명(opaque) 커서.
+ * 정렬 키의 값과 Event.id 를 함께 담아 "이 행 다음부터" 를 표현한다.
+ * 정렬 키 값이 null 인 행은 keyset 정렬 대상에서 보장하지 않는다 (API 로 생성된 이벤트는 모두 값이 있다).
+ */
+public class EventCursor {
+    private static final String SEPARATOR = "|";
+
+    private static final Map<String, Function<EventSummary, Object>> SORT_KEYS = Map.of(
+            "id", EventSummary::getId,
+            "name", EventSummary::getName,
+            "beginEnrollmentDateTime", EventSummary::getBeginEnrollmentDateTime,
+            "closeEnrollmentDateTime", EventSummary::getCloseEnrollmentDateTime,
+            "beginEventDateTime", EventSummary::getBeginEventDateTime,
+            "endEventDateTime", EventSummary::getEndEventDateTime,
+            "basePrice", EventSummary::getBasePrice,
+            "maxPrice", EventSummary::getMaxPrice,
+            "limitOfEnrollment", EventSummary::getLimitOfEnrollment
+    );
+
+    private final String property;
+    private final String value;
+    private final Integer id;
+
+    private EventCursor(String property, String value, Integer id) {
+        this.property = property;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static boolean isSortable(String property) {
+        return SORT_KEYS.containsKey(property);
+    }
+
+    /**
+     * 정렬 조건의 첫 번째 키만 keyset 으로 사용한다. 정렬 조건이 없으면 id 오름차순.
+     */
+    public static Sort.Order keysetOrder(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        if (!isSortable(order.getProperty())) {
+            throw new IllegalArgumentException("Unsupported keyset sort property: " + order.getProperty());
+        }
+        return order;
+    }
+
+    public static EventCursor of(EventSummary event, Sort.Order order) {
+        Object value = SORT_KEYS.get(order.getProperty()).apply(event);
+        return new EventCursor(order.getProperty(), value == null ? null : value.toString(), event.getId());
+    }
+
+    public static EventCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+        String[] parts = decoded.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || !isSortable(parts[1])) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        try {
+            return new EventCursor(parts[1], parts[2], Integer.valueOf(parts[0]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = this.id + SEPARATOR + this.property + SEPARATOR + (this.value == null ? "" : this.value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * 커서에 문자열로 담긴 정렬 키 값을 엔티티 속성 타입으로 되돌린다.
+     */
+    public Comparable<?> getValue(Class<?> type) {
+        try {
+            if (type == String.class) {
+                return this.value;
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(this.value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(this.value);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor value for " + this.property, e);
+        }
+        throw new IllegalArgumentException("Unsupported keyset type: " + type);
+    }
+}
@@ -0,0 +1,85 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.account.Account;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 이벤트 응답의 strong ETag. 단건은 버전과 manager 로, 목록은 페이지에 담긴 (id, 버전, manager) 목록으로 만든다.
+ * manager 의 id, email 은 이벤트 버전을 올리지 않고 바뀔 수 있으므로 따로 넣는다.
+ */
+final class EventETag {
+    private EventETag() {
+    }
+
+    /**
+     * manager 가 없으면 버전만, 있으면 버전 뒤에 manager 의 id 와 email 의 해시를 붙인다.
+     */
+    static String of(Long version, Integer managerId, String managerEmail) {
+        if (managerId == null) {
+            return "\"" + version + "\"";
+        }
+        String manager = managerId + ":" + managerEmail;
+        return "\"" + version + "-" + DigestUtils.md5DigestAsHex(manager.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static String of(Event event) {
+        Account manager = event.getManager();
+        return manager == null
+                ? of(event.getVersion(), null, null)
+                : of(event.getVersion(), manager.getId(), manager.getEmail());
+    }
+
+    static String of(EventRepository.EventVersion version) {
+        return of(version.getVersion(), version.getManagerId(), version.getManagerEmail());
+    }
+
+    /**
+     * 목록 응답은 같은 URL 에서만 비교되므로 링크는 넣지 않고 내용과 페이지 정보만 넣는다.
+     */
+    static String of(List<EventSummary> events, long totalElements, boolean hasNext) {
+        StringBuilder builder = new StringBuilder(events.size() * 16);
+        builder.append(totalElements).append('|').append(hasNext);
+        for (EventSummary event : events) {
+            builder.append('|').append(event.getId()).append(':').append(event.getVersion());
+            if (event.getManager() != null) {
+                builder.append(':').append(event.getManager().getId()).append(':').append(event.getManager().getEmail());
+            }
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-None-Match 는 weak 비교를 하므로 W/ 를 떼고 비교한다.
+     */
+    static boolean notModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 는 strong 비교를 하므로 W/ 로 시작하는 값은 일치하지 않는다.
+     */
+    static boolean matches(String ifMatch, String current) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
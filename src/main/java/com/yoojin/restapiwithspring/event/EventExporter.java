@@ -0,0 +1,59 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 이벤트를 NDJSON(한 줄에 이벤트 하나)으로 내보낸다.
+ * 한 행씩 읽어 바로 쓰고 영속성 컨텍스트를 주기적으로 비우므로 테이블 크기와 상관없이 메모리 사용량이 일정하다.
+ */
+@Service
+public class EventExporter {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter eventWriter;
+
+    public EventExporter(EventRepository eventRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        // manager 는 지연 로딩이므로 읽지 않고 내보내지도 않는다.
+        this.eventWriter = objectMapper.copy()
+                .registerModule(new SimpleModule().addSerializer(Event.class, EventSerializers.EventSerializer.withoutManager()))
+                .writerFor(Event.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+    }
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (Stream<Event> events = this.eventRepository.streamAllForExport();
+             JsonGenerator generator = this.eventWriter.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (Iterator<Event> iterator = events.iterator(); iterator.hasNext(); ) {
+                Event event = iterator.next();
+                this.eventWriter.writeValue(generator, event);
+                generator.writeRaw('\n');
+                this.entityManager.detach(event);
+                if (++count % EventRepository.EXPORT_FETCH_SIZE == 0) {
+                    this.entityManager.clear();
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,16 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import java.util.LinkedHashMap;
+
+/**
+ * EventFields 로 고른 필드 값. EntityModel 이 Map 내용을 최상위 속성으로 펼쳐 쓰므로 _links 는 그대로 남는다.
+ * 목록에서 EventSummary 와 같은 이름(eventList)으로 묶이도록 @Relation 을 붙인다.
+ */
+@Relation(value = "event", collectionRelation = "eventList")
+public class EventFieldValues extends LinkedHashMap<String, Object> {
+    EventFieldValues(int size) {
+        super(size * 2);
+    }
+}
@@ -0,0 +1,101 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ?fields= 로 고른 이벤트 응답 필드 (sparse fieldset).
+ * 목록 조회는 고른 필드의 컬럼만 읽고, 응답은 고른 필드만 EventFieldValues 에 옮겨 쓴다.
+ * id 는 self 링크에 필요하므로 항상 포함하고, 필드 순서는 요청 순서와 상관없이 EventSummary 의 순서를 따른다.
+ * 같은 fields 값은 다시 파싱하지 않도록 원래 문자열로 캐시한다.
+ */
+public final class EventFields {
+    public static final String WRONG_FIELDS = "wrongFields";
+    public static final String MANAGER = "manager";
+
+    private static final Map<String, Function<EventSummary, Object>> GETTERS = getters();
+    public static final EventFields ALL = new EventFields(new ArrayList<>(GETTERS.keySet()));
+
+    private static final Cache<String, EventFields> PARSED = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    private final List<String> names;
+    private final List<Function<EventSummary, Object>> getters;
+
+    private EventFields(List<String> names) {
+        this.names = Collections.unmodifiableList(names);
+        this.getters = names.stream().map(GETTERS::get).collect(Collectors.toList());
+    }
+
+    /**
+     * 모르는 필드가 있으면 IllegalArgumentException. 실패한 값은 캐시하지 않는다.
+     */
+    public static EventFields parse(String fields) {
+        return PARSED.get(fields, EventFields::create);
+    }
+
+    private static EventFields create(String fields) {
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        for (String name : requested) {
+            if (!GETTERS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown event field: " + name);
+            }
+        }
+        return new EventFields(GETTERS.keySet().stream()
+                .filter(name -> name.equals("id") || requested.contains(name))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 응답에 쓰는 필드 이름. manager 를 빼면 Event 의 속성 이름과 같다.
+     */
+    public List<String> getNames() {
+        return this.names;
+    }
+
+    public boolean includes(String name) {
+        return this.names.contains(name);
+    }
+
+    public EventFieldValues write(EventSummary event) {
+        EventFieldValues values = new EventFieldValues(this.names.size());
+        for (int i = 0; i < this.names.size(); i++) {
+            values.put(this.names.get(i), this.getters.get(i).apply(event));
+        }
+        return values;
+    }
+
+    private static Map<String, Function<EventSummary, Object>> getters() {
+        Map<String, Function<EventSummary, Object>> getters = new LinkedHashMap<>();
+        getters.put("id", EventSummary::getId);
+        getters.put("offline", EventSummary::isOffline);
+        getters.put("free", EventSummary::isFree);
+        getters.put("eventStatus", EventSummary::getEventStatus);
+        getters.put("name", EventSummary::getName);
+        getters.put("description", EventSummary::getDescription);
+        getters.put("beginEnrollmentDateTime", EventSummary::getBeginEnrollmentDateTime);
+        getters.put("closeEnrollmentDateTime", EventSummary::getCloseEnrollmentDateTime);
+        getters.put("beginEventDateTime", EventSummary::getBeginEventDateTime);
+        getters.put("endEventDateTime", EventSummary::getEndEventDateTime);
+        getters.put("location", EventSummary::getLocation);
+        getters.put("basePrice", EventSummary::getBasePrice);
+        getters.put("maxPrice", EventSummary::getMaxPrice);
+        getters.put("limitOfEnrollment", EventSummary::getLimitOfEnrollment);
+        getters.put(MANAGER, EventSummary::getManager);
+        return Collections.unmodifiableMap(getters);
+    }
+}
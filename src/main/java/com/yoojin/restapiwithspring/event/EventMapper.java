@@ -0,0 +1,48 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * EventDto <-> Event 변환. ModelMapper 와 같은 결과를 내지만 요청 시점에 리플렉션을 쓰지 않는다.
+ * EventDto 에 필드가 추가되면 merge 와 toDto 에도 추가해야 한다.
+ */
+@Component
+public class EventMapper {
+
+    public Event toEvent(EventDto eventDto) {
+        Event event = new Event();
+        merge(eventDto, event);
+        return event;
+    }
+
+    public void merge(EventDto eventDto, Event event) {
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+    }
+
+    /**
+     * PATCH 에서 현재 값 위에 패치를 덮어쓰기 위한 출발점.
+     */
+    public EventDto toDto(Event event) {
+        return EventDto.builder()
+                .name(event.getName())
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .location(event.getLocation())
+                .basePrice(event.getBasePrice())
+                .maxPrice(event.getMaxPrice())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+    }
+}
@@ -1,9 +1,73 @@
 package com.yoojin.restapiwithspring.event;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * 여기에 선언한 조회 메서드는 읽기 전용 트랜잭션에서 실행되므로 복제본이 있으면 복제본에서 읽는다.
+ * save 같은 JpaRepository 의 쓰기 메서드는 자기 @Transactional 을 따르므로 primary 에 쓴다.
+ */
 @Repository
-public interface EventRepository extends JpaRepository<Event, Integer> {
+@Transactional(readOnly = true)
+public interface EventRepository extends JpaRepository<Event, Integer>, EventRepositoryCustom {
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 단건 응답은 manager 를 함께 내보내므로 같은 쿼리에서 조인해서 읽는다.
+     */
+    @EntityGraph("Event.manager")
+    Optional<Event> findWithManagerById(Integer id);
+
+    /**
+     * 조건부 요청(If-None-Match)에 엔티티를 읽지 않고 답하기 위해 버전과 manager 의 id, email 만 조회한다.
+     */
+    @Query("select e.version as version, m.id as managerId, m.email as managerEmail "
+            + "from Event e left join e.manager m where e.id = :id")
+    Optional<EventVersion> findVersionById(@Param("id") Integer id);
+
+    /**
+     * 목록 조회용. manager 는 조인으로 id 와 email 만 읽으므로 Account 와 roles 를 추가로 조회하지 않는다.
+     */
+    @Query(value = "select new com.yoojin.restapiwithspring.event.EventSummary(" +
+            "e.id, e.version, e.offline, e.free, e.eventStatus, e.name, e.description, " +
+            "e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, e.beginEventDateTime, e.endEventDateTime, " +
+            "e.location, e.basePrice, e.maxPrice, e.limitOfEnrollment, m.id, m.email) " +
+            "from Event e left join e.manager m",
+            countQuery = "select count(e) from Event e")
+    Page<EventSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * 전체 이벤트를 커서로 읽는다. 트랜잭션 안에서 사용하고 다 읽으면 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select e from Event e order by e.id")
+    Stream<Event> streamAllForExport();
+
+    /**
+     * 단건 ETag(EventETag)에 들어가는 값.
+     */
+    interface EventVersion {
+        Long getVersion();
+
+        Integer getManagerId();
 
+        String getManagerEmail();
+    }
 }
@@ -0,0 +1,28 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface EventRepositoryCustom {
+    /**
+     * OFFSET 과 count 쿼리 없이 커서 다음의 이벤트를 조회한다. cursor 가 null 이면 첫 페이지.
+     */
+    Slice<EventSummary> findAllAfter(EventCursor cursor, Pageable pageable);
+
+    /**
+     * findAllAfter 와 같지만 fields 로 고른 컬럼과 id, version, 정렬 키만 읽는다. 읽지 않은 필드는 null(기본값)이다.
+     */
+    Slice<EventSummary> findAllAfter(EventCursor cursor, EventFields fields, Pageable pageable);
+
+    /**
+     * findAllSummaries 의 sparse fieldset 판. fields 로 고른 컬럼과 id, version 만 읽고,
+     * manager 를 고르지 않으면 account 를 조인하지 않는다.
+     */
+    Page<EventSummary> findAllSummaries(EventFields fields, Pageable pageable);
+
+    /**
+     * 조건에 맞는 이벤트를 목록과 같은 요약 형태로 조회한다. 조건이 하나도 없으면 전체 목록과 같다.
+     */
+    Page<EventSummary> search(EventSearch search, Pageable pageable);
+}
@@ -0,0 +1,252 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.account.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.criteria.CompoundSelection;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모두 조회라서 읽기 전용 트랜잭션에서 실행한다. EventRepository 의 @Transactional 은 여기 메서드에는 적용되지 않는다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EventRepositoryImpl implements EventRepositoryCustom {
+    private static final char LIKE_ESCAPE = '\\';
+    private static final String MANAGER_ID = "managerId";
+    private static final String MANAGER_EMAIL = "managerEmail";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<EventSummary> findAllAfter(EventCursor cursor, Pageable pageable) {
+        Sort.Order order = EventCursor.keysetOrder(pageable.getSort());
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        Join<Event, Account> manager = root.join("manager", JoinType.LEFT);
+        query.select(summary(cb, root, manager));
+        return keysetSlice(query, root, cursor, order, pageable.getPageSize(), Function.identity());
+    }
+
+    @Override
+    public Slice<EventSummary> findAllAfter(EventCursor cursor, EventFields fields, Pageable pageable) {
+        Sort.Order order = EventCursor.keysetOrder(pageable.getSort());
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields, order.getProperty()));
+        return keysetSlice(query, root, cursor, order, pageable.getPageSize(), EventRepositoryImpl::summary);
+    }
+
+    /**
+     * select 를 정한 query 에 커서 조건과 (key, id) 정렬을 붙이고 size + 1 건을 읽어서 다음 페이지가 있는지 판단한다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> Slice<EventSummary> keysetSlice(CriteriaQuery<T> query, Root<Event> root, EventCursor cursor,
+                                                Sort.Order order, int size, Function<T, EventSummary> mapper) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        Path<Comparable> key = root.get(order.getProperty());
+        Path<Integer> id = root.get("id");
+
+        if (cursor != null) {
+            if (!cursor.getProperty().equals(order.getProperty())) {
+                throw new IllegalArgumentException("Cursor was issued for sort property " + cursor.getProperty());
+            }
+            // (key, id) 튜플 비교: key 가 지나갔거나, key 가 같으면 id 가 지나간 행
+            Comparable value = cursor.getValue(key.getJavaType());
+            Predicate idAfter = order.isAscending() ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+            if (order.getProperty().equals("id")) {
+                query.where(idAfter);
+            } else {
+                Predicate keyAfter = order.isAscending() ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+                query.where(cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter)));
+            }
+        }
+        if (order.getProperty().equals("id")) {
+            query.orderBy(order.isAscending() ? cb.asc(id) : cb.desc(id));
+        } else {
+            query.orderBy(order.isAscending()
+                    ? List.of(cb.asc(key), cb.asc(id))
+                    : List.of(cb.desc(key), cb.desc(id)));
+        }
+
+        List<EventSummary> events = this.entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultStream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        boolean hasNext = events.size() > size;
+        List<EventSummary> content = hasNext ? events.subList(0, size) : events;
+        return new SliceImpl<>(content, PageRequest.of(0, size, Sort.by(order)), hasNext);
+    }
+
+    @Override
+    public Page<EventSummary> findAllSummaries(EventFields fields, Pageable pageable) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields, null))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        List<EventSummary> content = this.entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(EventRepositoryImpl::summary)
+                .collect(Collectors.toList());
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        countQuery.select(cb.count(countQuery.from(Event.class)));
+        return new PageImpl<>(content, pageable, this.entityManager.createQuery(countQuery).getSingleResult());
+    }
+
+    @Override
+    public Page<EventSummary> search(EventSearch search, Pageable pageable) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        Join<Event, Account> manager = root.join("manager", JoinType.LEFT);
+        query.select(summary(cb, root, manager))
+                .where(searchPredicates(search, cb, root))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        List<EventSummary> content = this.entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 첫 페이지가 다 차지 않으면 개수를 이미 알고 있으므로 count 쿼리를 건너뛴다.
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Event> countRoot = countQuery.from(Event.class);
+        countQuery.select(cb.count(countRoot)).where(searchPredicates(search, cb, countRoot));
+        return new PageImpl<>(content, pageable, this.entityManager.createQuery(countQuery).getSingleResult());
+    }
+
+    /**
+     * fields 로 고른 속성과 id, version, extra(정렬 키)를 속성 이름을 별칭으로 읽는다. manager 는 고른 경우에만 조인한다.
+     */
+    private static List<Selection<?>> selections(Root<Event> root, EventFields fields, String extra) {
+        Set<String> attributes = new LinkedHashSet<>();
+        attributes.add("id");
+        attributes.add("version");
+        attributes.addAll(fields.getNames());
+        if (extra != null) {
+            attributes.add(extra);
+        }
+        List<Selection<?>> selections = new ArrayList<>(attributes.size() + 1);
+        for (String attribute : attributes) {
+            if (attribute.equals(EventFields.MANAGER)) {
+                Join<Event, Account> manager = root.join("manager", JoinType.LEFT);
+                selections.add(manager.get("id").alias(MANAGER_ID));
+                selections.add(manager.get("email").alias(MANAGER_EMAIL));
+            } else {
+                selections.add(root.get(attribute).alias(attribute));
+            }
+        }
+        return selections;
+    }
+
+    /**
+     * 읽지 않은 필드는 null, false, 0 으로 채운다.
+     */
+    private static EventSummary summary(Tuple tuple) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return new EventSummary((Integer) values.get("id"), (Long) values.get("version"),
+                (Boolean) values.getOrDefault("offline", false), (Boolean) values.getOrDefault("free", false),
+                (EventStatus) values.get("eventStatus"), (String) values.get("name"), (String) values.get("description"),
+                (LocalDateTime) values.get("beginEnrollmentDateTime"), (LocalDateTime) values.get("closeEnrollmentDateTime"),
+                (LocalDateTime) values.get("beginEventDateTime"), (LocalDateTime) values.get("endEventDateTime"),
+                (String) values.get("location"),
+                (Integer) values.getOrDefault("basePrice", 0), (Integer) values.getOrDefault("maxPrice", 0),
+                (Integer) values.getOrDefault("limitOfEnrollment", 0),
+                (Integer) values.get(MANAGER_ID), (String) values.get(MANAGER_EMAIL));
+    }
+
+    /**
+     * EventSummary 생성자 인자 순서
+     */
+    private static CompoundSelection<EventSummary> summary(CriteriaBuilder cb, Root<Event> root, Join<Event, Account> manager) {
+        return cb.construct(EventSummary.class,
+                root.get("id"), root.get("version"), root.get("offline"), root.get("free"), root.get("eventStatus"),
+                root.get("name"), root.get("description"),
+                root.get("beginEnrollmentDateTime"), root.get("closeEnrollmentDateTime"),
+                root.get("beginEventDateTime"), root.get("endEventDateTime"), root.get("location"),
+                root.get("basePrice"), root.get("maxPrice"), root.get("limitOfEnrollment"),
+                manager.get("id"), manager.get("email"));
+    }
+
+    /**
+     * 문자열 검색은 lower(컬럼) like '%값%' 로 만든다. PostgreSQL 에서는 같은 식으로 만든 trigram 인덱스
+     * (db/event-search-postgresql.sql)를 타고, H2 에서는 인덱스 없이 같은 결과를 낸다.
+     */
+    private static Predicate[] searchPredicates(EventSearch search, CriteriaBuilder cb, Root<Event> root) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (search.getQ() != null && !search.getQ().isBlank()) {
+            String pattern = "%" + escapeLike(search.getQ().strip().toLowerCase(Locale.ROOT)) + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE)));
+        }
+        if (search.getEventStatus() != null) {
+            predicates.add(cb.equal(root.get("eventStatus"), search.getEventStatus()));
+        }
+        if (search.getOffline() != null) {
+            predicates.add(cb.equal(root.get("offline"), search.getOffline()));
+        }
+        if (search.getFree() != null) {
+            predicates.add(cb.equal(root.get("free"), search.getFree()));
+        }
+        if (search.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("basePrice"), search.getMinPrice()));
+        }
+        if (search.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("basePrice"), search.getMaxPrice()));
+        }
+        // 모집 기간이 [from, to] 와 겹치는 이벤트
+        if (search.getEnrollmentFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("closeEnrollmentDateTime"), search.getEnrollmentFrom()));
+        }
+        if (search.getEnrollmentTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("beginEnrollmentDateTime"), search.getEnrollmentTo()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
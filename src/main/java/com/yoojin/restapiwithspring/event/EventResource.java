@@ -1,12 +1,11 @@
 package com.yoojin.restapiwithspring.event;
 
+import com.yoojin.restapiwithspring.common.ApiLinks;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 
 import java.util.Arrays;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 //@Getter
 //public class EventResource extends RepresentationModel{
 //    @JsonUnwrapped
@@ -24,6 +23,6 @@ public class EventResource extends EntityModel<Event> {
 
     public EventResource(Event event, Link... links) {
         super(event, Arrays.asList(links));
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        add(ApiLinks.event(event.getId()).withSelfRel());
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.yoojin.restapiwithspring.event;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 검색 조건. 값이 없는 조건은 적용하지 않는다.
+ * 가격 범위는 basePrice 기준이고, 모집 기간은 [enrollmentFrom, enrollmentTo] 와 겹치는 이벤트를 찾는다.
+ */
+@Data @Builder @NoArgsConstructor @AllArgsConstructor
+public class EventSearch {
+    /**
+     * name 이나 description 에 포함된 문자열. 대소문자를 구분하지 않는다.
+     */
+    @Size(max = 100)
+    private String q;
+    private EventStatus eventStatus;
+    private Boolean offline;
+    private Boolean free;
+    @Min(0)
+    private Integer minPrice;
+    @Min(0)
+    private Integer maxPrice;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+}
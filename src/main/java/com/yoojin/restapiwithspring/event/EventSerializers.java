@@ -0,0 +1,327 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.yoojin.restapiwithspring.account.Account;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Event, EventSummary 전용 직렬화기. 이벤트 응답과 목록 페이지에서 BeanSerializer 가 하던 일을 대신한다.
+ * 필드 순서와 값(날짜는 ISO_LOCAL_DATE_TIME, enum 은 이름, null 은 null)이 BeanSerializer 와 바이트 단위로 같아야 한다.
+ * Event 나 EventSummary 에 필드를 추가하면 여기에도 추가한다. EventSerializersTest 가 둘을 비교한다.
+ * 필드 이름은 미리 인코딩해 두고, 날짜는 DateTimeFormatter 를 거치지 않고 바로 문자로 쓴다.
+ * EntityModel 은 내용을 펼쳐서 쓰므로 unwrappingSerializer 로 시작/끝 중괄호 없이 필드만 쓰는 직렬화기를 돌려준다.
+ */
+@JsonComponent
+public class EventSerializers {
+    private static final SerializableString MANAGER_ID = new SerializedString("id");
+    private static final SerializableString MANAGER_EMAIL = new SerializedString("email");
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final int NANO_DIGITS = 9;
+
+    public static class EventSerializer extends FieldsSerializer<Event> {
+        private final boolean writeManager;
+
+        public EventSerializer() {
+            this(Names.DEFAULT, false, true);
+        }
+
+        private EventSerializer(Names names, boolean unwrapping, boolean writeManager) {
+            super(names, unwrapping);
+            this.writeManager = writeManager;
+        }
+
+        /**
+         * manager 를 읽지도 쓰지도 않는다. 내보내기(EventExporter)에서 쓴다.
+         */
+        static EventSerializer withoutManager() {
+            return new EventSerializer(Names.DEFAULT, false, false);
+        }
+
+        @Override
+        protected FieldsSerializer<Event> withNames(Names names, boolean unwrapping) {
+            return new EventSerializer(names, unwrapping, this.writeManager);
+        }
+
+        @Override
+        protected void writeFields(Event event, Names names, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeInteger(generator, names.id, event.getId());
+            generator.writeFieldName(names.offline);
+            generator.writeBoolean(event.isOffline());
+            generator.writeFieldName(names.free);
+            generator.writeBoolean(event.isFree());
+            writeStatus(generator, names.eventStatus, event.getEventStatus(), provider);
+            writeString(generator, names.name, event.getName());
+            writeString(generator, names.description, event.getDescription());
+            writeDateTime(generator, names.beginEnrollmentDateTime, event.getBeginEnrollmentDateTime(), provider);
+            writeDateTime(generator, names.closeEnrollmentDateTime, event.getCloseEnrollmentDateTime(), provider);
+            writeDateTime(generator, names.beginEventDateTime, event.getBeginEventDateTime(), provider);
+            writeDateTime(generator, names.endEventDateTime, event.getEndEventDateTime(), provider);
+            writeString(generator, names.location, event.getLocation());
+            generator.writeFieldName(names.basePrice);
+            generator.writeNumber(event.getBasePrice());
+            generator.writeFieldName(names.maxPrice);
+            generator.writeNumber(event.getMaxPrice());
+            generator.writeFieldName(names.limitOfEnrollment);
+            generator.writeNumber(event.getLimitOfEnrollment());
+            if (this.writeManager) {
+                Account manager = event.getManager();
+                generator.writeFieldName(names.manager);
+                if (manager == null) {
+                    generator.writeNull();
+                } else {
+                    writeManager(generator, manager.getId(), manager.getEmail());
+                }
+            }
+        }
+    }
+
+    public static class EventSummarySerializer extends FieldsSerializer<EventSummary> {
+
+        public EventSummarySerializer() {
+            this(Names.DEFAULT, false);
+        }
+
+        private EventSummarySerializer(Names names, boolean unwrapping) {
+            super(names, unwrapping);
+        }
+
+        @Override
+        protected FieldsSerializer<EventSummary> withNames(Names names, boolean unwrapping) {
+            return new EventSummarySerializer(names, unwrapping);
+        }
+
+        @Override
+        protected void writeFields(EventSummary event, Names names, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeInteger(generator, names.id, event.getId());
+            generator.writeFieldName(names.offline);
+            generator.writeBoolean(event.isOffline());
+            generator.writeFieldName(names.free);
+            generator.writeBoolean(event.isFree());
+            writeStatus(generator, names.eventStatus, event.getEventStatus(), provider);
+            writeString(generator, names.name, event.getName());
+            writeString(generator, names.description, event.getDescription());
+            writeDateTime(generator, names.beginEnrollmentDateTime, event.getBeginEnrollmentDateTime(), provider);
+            writeDateTime(generator, names.closeEnrollmentDateTime, event.getCloseEnrollmentDateTime(), provider);
+            writeDateTime(generator, names.beginEventDateTime, event.getBeginEventDateTime(), provider);
+            writeDateTime(generator, names.endEventDateTime, event.getEndEventDateTime(), provider);
+            writeString(generator, names.location, event.getLocation());
+            generator.writeFieldName(names.basePrice);
+            generator.writeNumber(event.getBasePrice());
+            generator.writeFieldName(names.maxPrice);
+            generator.writeNumber(event.getMaxPrice());
+            generator.writeFieldName(names.limitOfEnrollment);
+            generator.writeNumber(event.getLimitOfEnrollment());
+            EventSummary.Manager manager = event.getManager();
+            generator.writeFieldName(names.manager);
+            if (manager == null) {
+                generator.writeNull();
+            } else {
+                writeManager(generator, manager.getId(), manager.getEmail());
+            }
+        }
+    }
+
+    /**
+     * 펼치지 않은 직렬화기는 시작/끝 중괄호까지 쓰고, 펼친 직렬화기는 필드만 쓴다.
+     * 펼친 직렬화기는 EntityModel 을 쓸 때마다 요청되므로 하나만 만들어 둔다.
+     */
+    abstract static class FieldsSerializer<T> extends JsonSerializer<T> {
+        private final Names names;
+        private final boolean unwrapping;
+        private JsonSerializer<T> unwrapped;
+
+        FieldsSerializer(Names names, boolean unwrapping) {
+            this.names = names;
+            this.unwrapping = unwrapping;
+        }
+
+        protected abstract FieldsSerializer<T> withNames(Names names, boolean unwrapping);
+
+        protected abstract void writeFields(T value, Names names, JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+        @Override
+        public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (this.unwrapping) {
+                writeFields(value, this.names, generator, provider);
+                return;
+            }
+            generator.writeStartObject(value);
+            writeFields(value, this.names, generator, provider);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public boolean isUnwrappingSerializer() {
+            return this.unwrapping;
+        }
+
+        @Override
+        public JsonSerializer<T> unwrappingSerializer(NameTransformer transformer) {
+            if (transformer != NameTransformer.NOP) {
+                return withNames(new Names(this.names, transformer), true);
+            }
+            JsonSerializer<T> unwrapped = this.unwrapped;
+            if (unwrapped == null) {
+                unwrapped = this.unwrapping ? this : withNames(this.names, true);
+                this.unwrapped = unwrapped;
+            }
+            return unwrapped;
+        }
+    }
+
+    static final class Names {
+        static final Names DEFAULT = new Names();
+
+        final SerializableString id;
+        final SerializableString offline;
+        final SerializableString free;
+        final SerializableString eventStatus;
+        final SerializableString name;
+        final SerializableString description;
+        final SerializableString beginEnrollmentDateTime;
+        final SerializableString closeEnrollmentDateTime;
+        final SerializableString beginEventDateTime;
+        final SerializableString endEventDateTime;
+        final SerializableString location;
+        final SerializableString basePrice;
+        final SerializableString maxPrice;
+        final SerializableString limitOfEnrollment;
+        final SerializableString manager;
+
+        private Names() {
+            this(null, NameTransformer.NOP);
+        }
+
+        /**
+         * @JsonUnwrapped(prefix = ...) 처럼 이름을 바꿔서 펼칠 때 쓴다. 이미 바뀐 이름에 transformer 를 한 번 더 적용한다.
+         */
+        Names(Names names, NameTransformer transformer) {
+            this.id = name(names == null ? "id" : names.id.getValue(), transformer);
+            this.offline = name(names == null ? "offline" : names.offline.getValue(), transformer);
+            this.free = name(names == null ? "free" : names.free.getValue(), transformer);
+            this.eventStatus = name(names == null ? "eventStatus" : names.eventStatus.getValue(), transformer);
+            this.name = name(names == null ? "name" : names.name.getValue(), transformer);
+            this.description = name(names == null ? "description" : names.description.getValue(), transformer);
+            this.beginEnrollmentDateTime = name(names == null ? "beginEnrollmentDateTime" : names.beginEnrollmentDateTime.getValue(), transformer);
+            this.closeEnrollmentDateTime = name(names == null ? "closeEnrollmentDateTime" : names.closeEnrollmentDateTime.getValue(), transformer);
+            this.beginEventDateTime = name(names == null ? "beginEventDateTime" : names.beginEventDateTime.getValue(), transformer);
+            this.endEventDateTime = name(names == null ? "endEventDateTime" : names.endEventDateTime.getValue(), transformer);
+            this.location = name(names == null ? "location" : names.location.getValue(), transformer);
+            this.basePrice = name(names == null ? "basePrice" : names.basePrice.getValue(), transformer);
+            this.maxPrice = name(names == null ? "maxPrice" : names.maxPrice.getValue(), transformer);
+            this.limitOfEnrollment = name(names == null ? "limitOfEnrollment" : names.limitOfEnrollment.getValue(), transformer);
+            this.manager = name(names == null ? "manager" : names.manager.getValue(), transformer);
+        }
+
+        private static SerializableString name(String name, NameTransformer transformer) {
+            return new SerializedString(transformer.transform(name));
+        }
+    }
+
+    private static void writeInteger(JsonGenerator generator, SerializableString name, Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeManager(JsonGenerator generator, Integer id, String email) throws IOException {
+        generator.writeStartObject();
+        writeInteger(generator, MANAGER_ID, id);
+        writeString(generator, MANAGER_EMAIL, email);
+        generator.writeEndObject();
+    }
+
+    /**
+     * enum 을 이름이 아닌 값으로 쓰도록 설정했으면 기본 직렬화기에 맡긴다.
+     */
+    private static void writeStatus(JsonGenerator generator, SerializableString name, EventStatus value,
+                                    SerializerProvider provider) throws IOException {
+        if (value != null && (provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+                || provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX))) {
+            provider.defaultSerializeField(name.getValue(), value, generator);
+            return;
+        }
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.name());
+        }
+    }
+
+    /**
+     * DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 결과를 쓴다. 초는 항상 쓰고, 나노초는 0 이 아닐 때만 뒤쪽 0 을 빼고 쓴다.
+     * 네 자리가 아닌 연도와 날짜를 숫자 배열로 쓰는 설정(WRITE_DATES_AS_TIMESTAMPS)은 원래 방식에 맡긴다.
+     */
+    private static void writeDateTime(JsonGenerator generator, SerializableString name, LocalDateTime value,
+                                      SerializerProvider provider) throws IOException {
+        if (value != null && provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(name.getValue(), value, generator);
+            return;
+        }
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[DATE_TIME_LENGTH + 1 + NANO_DIGITS];
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        int length = DATE_TIME_LENGTH;
+        int nano = value.getNano();
+        if (nano != 0) {
+            int width = NANO_DIGITS;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buffer[length++] = '.';
+            digits(buffer, length, nano, width);
+            length += width;
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
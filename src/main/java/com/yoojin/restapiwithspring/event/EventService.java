@@ -0,0 +1,85 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.enrollment.EnrollmentCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Service
+public class EventService {
+    public static final String EVENTS_CACHE = "events";
+
+    private final EventRepository eventRepository;
+    private final EnrollmentCounter enrollmentCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 단건 조회용 read-through 캐시. 캐시에 있으면 DB 조회와 엔티티 생성 없이 반환한다.
+     * 캐시된 인스턴스는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다. 수정은 eventRepository 로 다시 읽어서 한다.
+     */
+    @Cacheable(cacheNames = EVENTS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<Event> getEvent(Integer id) {
+        return this.eventRepository.findWithManagerById(id);
+    }
+
+    /**
+     * 캐시를 거치지 않고 읽어서 캐시를 바꾼다. 캐시된 이벤트가 DB 보다 뒤처진 것을 안 경우에 쓴다.
+     * 예를 들어 manager 의 email 은 이벤트 버전을 올리지 않고 바뀌므로 저장할 때 캐시를 비우지 못한다.
+     */
+    @CachePut(cacheNames = EVENTS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<Event> refreshEvent(Integer id) {
+        return this.eventRepository.findWithManagerById(id);
+    }
+
+    /**
+     * 수정하기 전에 읽는다. 캐시를 거치지 않고, 쓰기 트랜잭션이라 복제본이 아닌 primary 에서 읽으므로 If-Match 를 최신 버전과 비교한다.
+     */
+    @Transactional
+    public Optional<Event> getEventForUpdate(Integer id) {
+        return this.eventRepository.findWithManagerById(id);
+    }
+
+    /**
+     * 저장이 커밋된 뒤 캐시를 비워서 다음 조회가 새 값을 읽게 한다.
+     * 응답의 ETag 가 올라간 버전을 담도록 바깥 트랜잭션이 있어도 바로 flush 한다.
+     * 모집 인원을 바꾼 수정은 saveEvent(event, previousLimitOfEnrollment) 로 저장한다.
+     */
+    @CacheEvict(cacheNames = EVENTS_CACHE, key = "#result.id")
+    public Event saveEvent(Event event) {
+        return this.eventRepository.saveAndFlush(event);
+    }
+
+    /**
+     * 이미 있는 이벤트를 저장한다. previousLimitOfEnrollment 는 고치기 전에 읽은 모집 인원이다.
+     * 모집 인원이 바뀌었으면 같은 트랜잭션에서 참가 신청 stripe 를 바뀐 모집 인원에 맞추고,
+     * 받은 신청보다 적게 줄이면 EnrollmentException 으로 저장을 되돌린다.
+     * 다른 필드만 바뀌었으면 stripe 행을 잠그지 않으므로 진행 중인 신청을 기다리게 하지 않는다.
+     */
+    @CacheEvict(cacheNames = EVENTS_CACHE, key = "#result.id")
+    public Event saveEvent(Event event, int previousLimitOfEnrollment) {
+        if (event.getLimitOfEnrollment() == previousLimitOfEnrollment) {
+            return this.eventRepository.saveAndFlush(event);
+        }
+        return this.transactionTemplate.execute(status -> {
+            Event savedEvent = this.eventRepository.saveAndFlush(event);
+            this.enrollmentCounter.resize(savedEvent.getId());
+            return savedEvent;
+        });
+    }
+
+    /**
+     * 새 이벤트만 받는다. hibernate.jdbc.batch_size 단위로 묶여 insert 되며, 새 id 라서 비울 캐시가 없다.
+     */
+    @Transactional
+    public List<Event> saveEvents(List<Event> events) {
+        return this.eventRepository.saveAll(events);
+    }
+}
@@ -1,5 +1,12 @@
 package com.yoojin.restapiwithspring.event;
 
 public enum EventStatus {
-    DRAFT, PUBLISHED, BEGAN_ENROLLMENT, CLOSE_ENROLLMENT, STARTED, ENDED
+    DRAFT, PUBLISHED, BEGAN_ENROLLMENT, CLOSE_ENROLLMENT, STARTED, ENDED;
+
+    /**
+     * PATCH 로 옮길 수 있는 상태. 공개(DRAFT -> PUBLISHED)만 사람이 하고, 나머지는 EventStatusScheduler 가 시각에 따라 옮긴다.
+     */
+    public boolean canChangeTo(EventStatus target) {
+        return this == target || (this == DRAFT && target == PUBLISHED);
+    }
 }
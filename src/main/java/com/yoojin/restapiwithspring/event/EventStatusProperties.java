@@ -0,0 +1,30 @@
+package com.yoojin.restapiwithspring.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "event-status")
+public class EventStatusProperties {
+    /**
+     * false 이면 주기 실행을 건너뛴다. EventStatusScheduler.advance 를 직접 부르는 것은 막지 않는다.
+     */
+    private boolean enabled = true;
+    /**
+     * 한 번 실행이 끝나고 다음 실행까지 기다리는 시간. 상태는 최대 이 시간만큼 늦게 바뀐다.
+     */
+    private Duration interval = Duration.ofMinutes(1);
+    /**
+     * update 문 하나가 바꾸는 최대 행 수. 한 트랜잭션이 잡는 행 잠금을 이만큼으로 묶어 둔다.
+     */
+    private int batchSize = 10_000;
+    /**
+     * 다른 노드가 실행하지 못하게 잡아 두는 시간. 한 번 실행하는 데 걸리는 시간보다 길어야 한다.
+     */
+    private Duration lockLease = Duration.ofMinutes(10);
+}
@@ -0,0 +1,98 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.global.scheduling.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트의 모집, 진행 시각이 지나면 상태를 다음 단계로 옮긴다. DRAFT 는 사람이 공개해야 하므로 건드리지 않는다.
+ * 엔티티를 읽지 않고 상태와 시각 인덱스(Event 의 idx_event_status_*)로 대상을 찾는 update 문으로 바꾸며,
+ * 여러 노드 중 SchedulerLock 을 얻은 한 노드만 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class EventStatusScheduler {
+    static final String LOCK_NAME = "event-status";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    private final EventStatusProperties properties;
+    private final CacheManager cacheManager;
+
+    @Scheduled(fixedDelayString = "${event-status.interval:PT1M}", initialDelayString = "${event-status.interval:PT1M}")
+    public void run() {
+        if (!this.properties.isEnabled() || !this.schedulerLock.tryLock(LOCK_NAME, this.properties.getLockLease())) {
+            return;
+        }
+        try {
+            advance(LocalDateTime.now());
+        } finally {
+            this.schedulerLock.unlock(LOCK_NAME);
+        }
+    }
+
+    /**
+     * now 기준으로 지난 단계를 모두 반영하고 바뀐 이벤트 수를 돌려준다.
+     * 마지막 단계부터 적용하므로 여러 단계가 밀린 이벤트도 한 번만 update 된다.
+     * 조건에 현재 상태가 들어 있어서 같은 시각으로 다시 실행해도 결과가 같다.
+     */
+    public int advance(LocalDateTime now) {
+        long started = System.nanoTime();
+        int total = 0;
+        for (Transition transition : Transition.values()) {
+            int updated;
+            do {
+                updated = this.jdbcTemplate.update(transition.sql,
+                        transition.to.name(), Timestamp.valueOf(now), this.properties.getBatchSize());
+                total += updated;
+            } while (updated == this.properties.getBatchSize());
+        }
+        if (total > 0) {
+            // 이 노드의 단건 캐시만 비운다. 다른 노드의 캐시는 만료 시간(spring.cache.caffeine.spec)이 지나야 바뀐다.
+            Cache events = this.cacheManager.getCache(EventService.EVENTS_CACHE);
+            if (events != null) {
+                events.clear();
+            }
+            log.info("Advanced status of {} events in {} ms", total, (System.nanoTime() - started) / 1_000_000);
+        }
+        return total;
+    }
+
+    /**
+     * 도착 상태, 기준 시각 컬럼, 출발 상태들. 적용 순서대로 선언한다.
+     * version 을 올려서 이전 ETag 로 보낸 조건부 요청이 바뀐 상태를 놓치지 않게 한다.
+     */
+    private enum Transition {
+        ENDED("end_event_date_time",
+                EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT, EventStatus.CLOSE_ENROLLMENT, EventStatus.STARTED),
+        STARTED("begin_event_date_time",
+                EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT, EventStatus.CLOSE_ENROLLMENT),
+        CLOSE_ENROLLMENT("close_enrollment_date_time",
+                EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT),
+        BEGAN_ENROLLMENT("begin_enrollment_date_time",
+                EventStatus.PUBLISHED);
+
+        private final EventStatus to;
+        private final String sql;
+
+        Transition(String column, EventStatus... from) {
+            this.to = EventStatus.valueOf(name());
+            String statuses = Arrays.stream(from)
+                    .map(status -> "'" + status.name() + "'")
+                    .collect(Collectors.joining(", "));
+            this.sql = "update event set event_status = ?, version = version + 1 where id in (" +
+                    "select id from event where event_status in (" + statuses + ") and " + column + " <= ? limit ?)";
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoojin.restapiwithspring.account.Account;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 목록 조회용 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ * manager 는 id 와 email 만 담는다 (password, roles 는 읽지 않는다).
+ */
+@Getter
+@Relation(value = "event", collectionRelation = "eventList")
+public class EventSummary {
+    private final Integer id;
+    @JsonIgnore
+    private final Long version;
+    private final boolean offline;
+    private final boolean free;
+    private final EventStatus eventStatus;
+    private final String name;
+    private final String description;
+    private final LocalDateTime beginEnrollmentDateTime;
+    private final LocalDateTime closeEnrollmentDateTime;
+    private final LocalDateTime beginEventDateTime;
+    private final LocalDateTime endEventDateTime;
+    private final String location;
+    private final int basePrice;
+    private final int maxPrice;
+    private final int limitOfEnrollment;
+    private final Manager manager;
+
+    /**
+     * JPQL/Criteria 의 constructor expression 에서 사용한다. 인자 순서를 바꾸면 쿼리도 함께 바꿔야 한다.
+     */
+    public EventSummary(Integer id, Long version, boolean offline, boolean free, EventStatus eventStatus, String name, String description,
+                        LocalDateTime beginEnrollmentDateTime, LocalDateTime closeEnrollmentDateTime,
+                        LocalDateTime beginEventDateTime, LocalDateTime endEventDateTime, String location,
+                        int basePrice, int maxPrice, int limitOfEnrollment, Integer managerId, String managerEmail) {
+        this.id = id;
+        this.version = version;
+        this.offline = offline;
+        this.free = free;
+        this.eventStatus = eventStatus;
+        this.name = name;
+        this.description = description;
+        this.beginEnrollmentDateTime = beginEnrollmentDateTime;
+        this.closeEnrollmentDateTime = closeEnrollmentDateTime;
+        this.beginEventDateTime = beginEventDateTime;
+        this.endEventDateTime = endEventDateTime;
+        this.location = location;
+        this.basePrice = basePrice;
+        this.maxPrice = maxPrice;
+        this.limitOfEnrollment = limitOfEnrollment;
+        this.manager = managerId == null ? null : new Manager(managerId, managerEmail);
+    }
+
+    public static EventSummary of(Event event) {
+        Account manager = event.getManager();
+        return new EventSummary(event.getId(), event.getVersion(), event.isOffline(), event.isFree(), event.getEventStatus(),
+                event.getName(), event.getDescription(),
+                event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime(),
+                event.getBeginEventDateTime(), event.getEndEventDateTime(), event.getLocation(),
+                event.getBasePrice(), event.getMaxPrice(), event.getLimitOfEnrollment(),
+                manager == null ? null : manager.getId(), manager == null ? null : manager.getEmail());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Manager {
+        private final Integer id;
+        private final String email;
+    }
+}
@@ -0,0 +1,15 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.common.ApiLinks;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+import java.util.Arrays;
+
+public class EventSummaryResource extends EntityModel<EventSummary> {
+
+    public EventSummaryResource(EventSummary event, Link... links) {
+        super(event, Arrays.asList(links));
+        add(ApiLinks.event(event.getId()).withSelfRel());
+    }
+}
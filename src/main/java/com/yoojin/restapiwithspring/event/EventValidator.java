@@ -2,23 +2,56 @@ package com.yoojin.restapiwithspring.event;
 
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
 
 import java.time.LocalDateTime;
 
 @Component
 public class EventValidator {
+    private final SmartValidator validator;
+
+    public EventValidator(SmartValidator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * EventDto 의 Bean Validation 제약과 가격, 날짜 규칙을 한 번에 검사한다. DB 는 보지 않으므로 저장소를 읽기 전에 부른다.
+     * 필드 제약에 걸린 값이 있어도 나머지 규칙은 모두 검사하고, 값이 없는(null) 날짜가 걸린 규칙만 건너뛴다.
+     */
     public void validate(EventDto eventDto, Errors errors) {
+        this.validator.validate(eventDto, errors);
+
         if(eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0) {
             errors.reject("wrongPrice", "Values for Prices are wrong");
         }
 
+        LocalDateTime beginEnrollmentDateTime = eventDto.getBeginEnrollmentDateTime();
+        LocalDateTime closeEnrollmentDateTime = eventDto.getCloseEnrollmentDateTime();
         LocalDateTime endEventDateTime = eventDto.getEndEventDateTime();
 
-        if(endEventDateTime.isBefore(eventDto.getBeginEventDateTime()) ||
-                endEventDateTime.isBefore(eventDto.getEndEventDateTime()) ||
-                endEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime())) {
+        if(isBefore(closeEnrollmentDateTime, beginEnrollmentDateTime)) {
+            errors.rejectValue("closeEnrollmentDateTime", "wrongValue", "Values for closeEnrollmentDateTime are wrong");
+        }
+
+        if(isBefore(endEventDateTime, eventDto.getBeginEventDateTime()) ||
+                isBefore(endEventDateTime, beginEnrollmentDateTime) ||
+                isBefore(endEventDateTime, closeEnrollmentDateTime)) {
             errors.rejectValue("endEventDateTime", "wrongValue", "Values for endEventDateTime are wrong");
         }
+    }
+
+    public void validate(EventSearch search, Errors errors) {
+        if(search.getMinPrice() != null && search.getMaxPrice() != null && search.getMinPrice() > search.getMaxPrice()) {
+            errors.reject("wrongPrice", "Values for price range are wrong");
+        }
+
+        if(search.getEnrollmentFrom() != null && search.getEnrollmentTo() != null &&
+                search.getEnrollmentTo().isBefore(search.getEnrollmentFrom())) {
+            errors.reject("wrongEnrollmentPeriod", "Values for enrollment period are wrong");
+        }
+    }
 
+    private static boolean isBefore(LocalDateTime dateTime, LocalDateTime other) {
+        return dateTime != null && other != null && dateTime.isBefore(other);
     }
 }
@@ -1,26 +1,75 @@
 package com.yoojin.restapiwithspring.global.aop;
 
+import com.yoojin.restapiwithspring.global.metrics.LatencyRegistry;
+import com.yoojin.restapiwithspring.global.metrics.LatencyRegistry.Layer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * controller, service, repository 호출 시간을 히스토그램에 기록한다.
+ * 로그는 느린 호출(trace.slow-threshold)과 샘플링된 호출(trace.sample-rate)만 남긴다.
+ */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "trace", name = "enabled", matchIfMissing = true)
 public class TimeTraceAop {
+    private final LatencyRegistry latencyRegistry;
+    private final TraceProperties traceProperties;
+
+    @Pointcut("within(com.yoojin.restapiwithspring..*) && (within(@org.springframework.stereotype.Controller *) || within(@org.springframework.web.bind.annotation.RestController *))")
+    public void controller() {
+    }
+
+    @Pointcut("within(com.yoojin.restapiwithspring..*) && within(@org.springframework.stereotype.Service *)")
+    public void service() {
+    }
+
+    @Pointcut("execution(public * com.yoojin.restapiwithspring..*Repository+.*(..))")
+    public void repository() {
+    }
+
+    @Around("controller() && !within(com.yoojin.restapiwithspring.global.metrics..*)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Layer.CONTROLLER, joinPoint);
+    }
+
+    @Around("service()")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Layer.SERVICE, joinPoint);
+    }
+
+    @Around("repository()")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Layer.REPOSITORY, joinPoint);
+    }
 
-    @Around("execution(* com.yoojin.restapiwithspring..*(..))")
-    public Object execute(ProceedingJoinPoint joinPoint) throws Throwable{
-        long start = System.currentTimeMillis();
-        log.info("START:{}", joinPoint);
+    private Object trace(Layer layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
         try {
             return joinPoint.proceed();
         } finally {
-            long finish = System.currentTimeMillis();
-            long timeMs = finish - start;
-            log.info("END:{} {}ms", joinPoint, timeMs);
+            long elapsed = System.nanoTime() - start;
+            this.latencyRegistry.histogram(layer, joinPoint.getThis(), ((MethodSignature) joinPoint.getSignature()).getMethod())
+                    .record(TimeUnit.NANOSECONDS.toMicros(elapsed));
+            if (elapsed >= this.traceProperties.getSlowThreshold().toNanos()) {
+                log.warn("SLOW:{} {}ms", joinPoint.getSignature().toShortString(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            } else if (this.traceProperties.getSampleRate() > 0
+                    && ThreadLocalRandom.current().nextDouble() < this.traceProperties.getSampleRate()
+                    && log.isDebugEnabled()) {
+                log.debug("TRACE:{} {}us", joinPoint.getSignature().toShortString(), TimeUnit.NANOSECONDS.toMicros(elapsed));
+            }
         }
     }
 }
@@ -0,0 +1,22 @@
+package com.yoojin.restapiwithspring.global.aop;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "trace")
+public class TraceProperties {
+    /**
+     * 이 시간 이상 걸린 호출만 WARN 으로 남긴다.
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+    /**
+     * 임계값 미만의 호출 중 DEBUG 로 남길 비율 (0.0 ~ 1.0). 0 이면 남기지 않는다.
+     */
+    private double sampleRate = 0.0;
+}
@@ -0,0 +1,39 @@
+package com.yoojin.restapiwithspring.global.aop.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 서비스 간 호출용 바이너리 표현. HAL JSON 과 같은 구조(_links, _embedded)를 CBOR, Smile 로 쓰고 읽는다.
+ * Boot 의 Jackson 설정(@JsonComponent, 날짜 형식, fail-on-unknown-properties)에 HAL 모듈만 더한다.
+ * 같은 클래스의 기본 컨버터는 HttpMessageConverters 가 이 빈으로 바꿔 끼운다.
+ */
+@Configuration
+public class BinaryFormatConfig {
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                            HalMediaTypeConfiguration hal) {
+        return new MappingJackson2CborHttpMessageConverter(halObjectMapper(builder, new CBORFactory(), hal));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                              HalMediaTypeConfiguration hal) {
+        return new MappingJackson2SmileHttpMessageConverter(halObjectMapper(builder, new SmileFactory(), hal));
+    }
+
+    private static ObjectMapper halObjectMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory,
+                                                HalMediaTypeConfiguration hal) {
+        return hal.configureObjectMapper(builder.factory(factory).build());
+    }
+}
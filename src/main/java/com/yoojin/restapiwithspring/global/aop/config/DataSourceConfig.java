@@ -0,0 +1,77 @@
+package com.yoojin.restapiwithspring.global.aop.config;
+
+import com.yoojin.restapiwithspring.global.datasource.ReplicaProperties;
+import com.yoojin.restapiwithspring.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * replica.url 이 있으면 spring.datasource(primary)와 replica 두 풀을 만들고 읽기 전용 트랜잭션을 복제본으로 보낸다.
+ * DataSource 빈을 직접 만들므로 Spring Boot 의 DataSource 자동 설정은 물러난다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replica", name = "url")
+public class DataSourceConfig {
+    private static final String PRIMARY_POOL = "primary";
+    private static final String REPLICA_POOL = "replica";
+
+    /**
+     * primary 풀은 자동 설정과 같이 spring.datasource, spring.datasource.hikari 로 만든다.
+     * 복제본 계정을 정하지 않았으면 primary 와 같은 계정을 쓴다.
+     * 복제본은 시작할 때 꺼져 있어도 애플리케이션이 뜨도록 초기 연결을 확인하지 않는다.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaProperties replicaProperties, Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName(PRIMARY_POOL);
+        }
+
+        HikariConfig replica = new HikariConfig();
+        replica.setPoolName(REPLICA_POOL);
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername() != null
+                ? replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+        replica.setPassword(replicaProperties.getPassword() != null
+                ? replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        replica.setMinimumIdle(replicaProperties.getMinimumIdle());
+        replica.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+        replica.setReadOnly(true);
+        replica.setInitializationFailTimeout(-1);
+
+        return new ReplicaRoutingDataSource(primary, new HikariDataSource(replica), replicaProperties.getRetryInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * open-in-view 의 세션은 요청 하나 동안 살아 있고, Spring 의 기본값(DELAYED_ACQUISITION_AND_HOLD)은 처음 얻은 커넥션을 세션이 끝날 때까지 쥐고 있다.
+     * 그러면 요청 앞부분의 읽기 전용 트랜잭션이 얻은 복제본 커넥션을 뒤의 쓰기 트랜잭션이 그대로 쓰므로 트랜잭션이 끝날 때마다 커넥션을 돌려준다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
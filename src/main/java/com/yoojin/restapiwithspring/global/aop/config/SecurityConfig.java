@@ -1,6 +1,8 @@
 package com.yoojin.restapiwithspring.global.aop.config;
 
 import com.yoojin.restapiwithspring.account.AccountService;
+import com.yoojin.restapiwithspring.global.security.PersistentTokenStore;
+import com.yoojin.restapiwithspring.global.security.TokenStoreProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -14,7 +16,8 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+
+import javax.sql.DataSource;
 
 @RequiredArgsConstructor
 @EnableWebSecurity
@@ -27,8 +30,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final PasswordEncoder passwordEncoder;
 
     @Bean
-    public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+    public TokenStore tokenStore(DataSource dataSource, TokenStoreProperties tokenStoreProperties) {
+        return new PersistentTokenStore(dataSource, tokenStoreProperties);
     }
 
     @Bean
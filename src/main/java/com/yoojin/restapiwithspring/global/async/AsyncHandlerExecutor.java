@@ -0,0 +1,95 @@
+package com.yoojin.restapiwithspring.global.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 핸들러 본문을 설정에 따라 서블릿 스레드에서 바로 실행하거나, 전용 실행기에서 실행하는 WebAsyncTask 로 돌려준다.
+ * WebAsyncTask(Callable) 로 실행하므로 OSIV 의 EntityManager 와 SecurityContext 는 Spring MVC 가 작업 스레드로 넘겨준다.
+ * 링크를 만들 때 쓰는 RequestContextHolder 는 넘겨주지 않으므로 여기서 묶는다.
+ */
+@Slf4j
+@Component
+public class AsyncHandlerExecutor implements DisposableBean {
+    private final AsyncHandlerProperties properties;
+    private final AsyncTaskExecutor executor;
+
+    public AsyncHandlerExecutor(AsyncHandlerProperties properties) {
+        this.properties = properties;
+        this.executor = properties.isEnabled() ? createExecutor(properties) : null;
+    }
+
+    /**
+     * 핸들러 메서드는 반환 타입을 Object 로 선언하고 이 결과를 그대로 반환한다.
+     * Spring MVC 는 실제 반환 값의 타입(ResponseEntity 또는 WebAsyncTask)으로 처리 방법을 고른다.
+     */
+    public Object execute(Callable<?> handler) throws Exception {
+        if (this.executor == null) {
+            return handler.call();
+        }
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = attributes.getResponse();
+        return new WebAsyncTask<>(this.properties.getTimeout().toMillis(), this.executor, () -> {
+            // 서블릿 스레드 쪽 attributes 는 요청 처리가 끝나면 비활성화되므로 새로 만든다.
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+            try {
+                return handler.call();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (this.executor != null) {
+            ((ThreadPoolTaskExecutor) this.executor).shutdown();
+        }
+    }
+
+    /**
+     * 가상 스레드도 같은 ThreadPoolTaskExecutor 에 스레드 팩토리만 바꿔 넣는다.
+     * 작업 수는 poolSize 개로 묶고 대기열이 가득 차면 제출하는 서블릿 스레드를 막지 않고 TaskRejectedException(503)으로 거절한다.
+     */
+    private static AsyncTaskExecutor createExecutor(AsyncHandlerProperties properties) {
+        ThreadFactory virtualThreadFactory = properties.isVirtualThreads() ? virtualThreadFactory() : null;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("async-handler-");
+        if (virtualThreadFactory != null) {
+            executor.setThreadFactory(virtualThreadFactory);
+        }
+        executor.initialize();
+        log.info("Async handlers run on {} {} threads (queue capacity {})", properties.getPoolSize(),
+                virtualThreadFactory != null ? "virtual" : "platform", properties.getQueueCapacity());
+        return executor;
+    }
+
+    /**
+     * 컴파일 대상은 Java 11 이므로 Thread.ofVirtual() 은 리플렉션으로 찾는다. 없으면 null.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "async-handler-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.yoojin.restapiwithspring.global.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "async-handler")
+public class AsyncHandlerProperties {
+    /**
+     * true 이면 이벤트 핸들러가 서블릿 스레드를 돌려주고 전용 실행기에서 DB 작업을 한다.
+     */
+    private boolean enabled = false;
+    /**
+     * 동시에 실행할 수 있는 작업 수. 가상 스레드를 써도 같다.
+     */
+    private int poolSize = 32;
+    /**
+     * 실행을 기다릴 수 있는 작업 수. 가득 차면 기다리지 않고 503 을 돌려준다.
+     */
+    private int queueCapacity = 500;
+    /**
+     * 이 시간 안에 끝나지 않은 요청은 503 으로 끝난다.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+    /**
+     * 런타임이 지원하면(Java 21 이상) 가상 스레드를 사용한다.
+     */
+    private boolean virtualThreads = true;
+}
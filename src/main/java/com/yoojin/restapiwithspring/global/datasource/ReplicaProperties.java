@@ -0,0 +1,36 @@
+package com.yoojin.restapiwithspring.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "replica")
+public class ReplicaProperties {
+    /**
+     * 복제본 JDBC URL. 비어 있으면 라우팅하지 않고 모든 쿼리를 spring.datasource 로 보낸다.
+     */
+    private String url;
+    /**
+     * 비어 있으면 spring.datasource 와 같은 계정을 쓴다.
+     */
+    private String username;
+    private String password;
+    /**
+     * 복제본 커넥션 풀 크기. primary 풀은 spring.datasource.hikari.maximum-pool-size 로 따로 정한다.
+     */
+    private int maximumPoolSize = 10;
+    private int minimumIdle = 2;
+    /**
+     * 복제본에서 이 시간 안에 커넥션을 얻지 못하면 primary 로 보낸다. Hikari 가 받는 최소값은 250ms 이다.
+     */
+    private Duration connectionTimeout = Duration.ofMillis(500);
+    /**
+     * 복제본에 연결하지 못한 뒤 이 시간 동안은 시도하지 않고 바로 primary 로 보낸다. 풀이 가득 찼던 것뿐이면 기다리지 않는다.
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,161 @@
+package com.yoojin.restapiwithspring.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 의 조회 메서드)의 커넥션은 복제본 풀에서, 나머지는 primary 풀에서 꺼낸다.
+ * readOnly 여부는 트랜잭션이 시작된 다음에야 알 수 있으므로 첫 쿼리 때 커넥션을 얻는 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * 복제본에서 커넥션을 얻지 못하면 primary 로 보낸다. 연결이 실패했으면 retryInterval 동안은 복제본을 다시 시도하지 않고,
+ * 풀이 가득 차서 connectionTimeout 안에 커넥션을 받지 못한 것뿐이면 그 요청만 primary 로 보낸다.
+ * 복제본은 primary 보다 늦을 수 있으므로 방금 쓴 값을 다시 읽어야 하는 곳은 쓰기 트랜잭션에서 읽는다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final long retryIntervalNanos;
+    private volatile boolean replicaAvailable = true;
+    private volatile long replicaFailedAt;
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong saturations = new AtomicLong();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica, Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryIntervalNanos = retryInterval.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        Connection connection = this.primary.getConnection();
+        this.primaryConnections.incrementAndGet();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    private Connection replicaConnection() {
+        if (!this.replicaAvailable && System.nanoTime() - this.replicaFailedAt < this.retryIntervalNanos) {
+            this.fallbacks.incrementAndGet();
+            return null;
+        }
+        try {
+            Connection connection = this.replica.getConnection();
+            if (!this.replicaAvailable) {
+                this.replicaAvailable = true;
+                log.info("Replica {} is available again", this.replica.getPoolName());
+            }
+            this.replicaConnections.incrementAndGet();
+            return connection;
+        } catch (SQLException e) {
+            this.fallbacks.incrementAndGet();
+            if (isPoolSaturated(e)) {
+                this.saturations.incrementAndGet();
+                log.debug("Replica {} is saturated, read-only transaction uses {}", this.replica.getPoolName(),
+                        this.primary.getPoolName());
+                return null;
+            }
+            this.replicaFailedAt = System.nanoTime();
+            if (this.replicaAvailable) {
+                this.replicaAvailable = false;
+                log.warn("Replica {} is unavailable, read-only transactions use {} for {} ms: {}", this.replica.getPoolName(),
+                        this.primary.getPoolName(), this.retryIntervalNanos / 1_000_000, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Hikari 는 connectionTimeout 이 지나면 SQLTransientConnectionException 을 던지고, 그동안 새 연결이 실패했으면 그 예외를 cause 로 넣는다.
+     * cause 가 없고 풀에 열린 커넥션이 있으면 복제본은 살아 있고 커넥션이 모두 사용 중이었다는 뜻이다.
+     * 열린 커넥션이 하나도 없으면 첫 연결이 timeout 안에 끝나지 않은 것이므로 연결 실패로 본다.
+     */
+    private boolean isPoolSaturated(SQLException e) {
+        HikariPoolMXBean pool = this.replica.getHikariPoolMXBean();
+        return e instanceof SQLTransientConnectionException && e.getCause() == null
+                && pool != null && pool.getTotalConnections() > 0;
+    }
+
+    public Statistics statistics() {
+        Map<String, Pool> pools = new LinkedHashMap<>();
+        pools.put(this.primary.getPoolName(), Pool.of(this.primary));
+        pools.put(this.replica.getPoolName(), Pool.of(this.replica));
+        return new Statistics(pools, this.replicaAvailable,
+                this.primaryConnections.get(), this.replicaConnections.get(), this.fallbacks.get(), this.saturations.get());
+    }
+
+    @Override
+    public void close() {
+        this.replica.close();
+        this.primary.close();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Statistics {
+        private final Map<String, Pool> pools;
+        private final boolean replicaAvailable;
+        /**
+         * primary 에서 꺼낸 커넥션 수. 복제본 대신 primary 로 보낸 읽기도 포함한다.
+         */
+        private final long primaryConnectionCount;
+        private final long replicaConnectionCount;
+        /**
+         * 읽기 전용 트랜잭션을 복제본 대신 primary 로 보낸 횟수.
+         */
+        private final long fallbackCount;
+        /**
+         * fallbackCount 중 복제본 풀이 가득 차서 primary 로 보낸 횟수. 복제본을 사용할 수 없다고 표시하지 않는다.
+         */
+        private final long saturationCount;
+    }
+
+    /**
+     * 풀이 아직 시작되지 않았으면(첫 커넥션 전) 사용 중, 대기 수는 0 이다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Pool {
+        private final int maximumPoolSize;
+        private final int totalConnections;
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int threadsAwaitingConnection;
+
+        static Pool of(HikariDataSource dataSource) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return new Pool(dataSource.getMaximumPoolSize(), 0, 0, 0, 0);
+            }
+            return new Pool(dataSource.getMaximumPoolSize(), pool.getTotalConnections(), pool.getActiveConnections(),
+                    pool.getIdleConnections(), pool.getThreadsAwaitingConnection());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.yoojin.restapiwithspring.global.jpa;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 엔티티별 시퀀스에서 allocation size 만큼 id 를 한 번에 받아 쓰는 pooled-lo 생성기.
+ * allocation size 는 애노테이션이 아니라 설정으로 정한다.
+ * <pre>
+ * spring.jpa.properties.id_generator.default_allocation_size=50
+ * spring.jpa.properties.id_generator.event_seq.allocation_size=100
+ * </pre>
+ * DB 시퀀스의 INCREMENT BY 는 allocation size 와 같아야 한다 (db/pooled-lo-sequences-postgresql.sql).
+ */
+public class PooledLoSequenceGenerator extends SequenceStyleGenerator {
+    public static final String DEFAULT_ALLOCATION_SIZE = "id_generator.default_allocation_size";
+    private static final String ALLOCATION_SIZE = "id_generator.%s.allocation_size";
+    private static final int FALLBACK_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService configuration = serviceRegistry.getService(ConfigurationService.class);
+        String sequenceName = params.getProperty(SEQUENCE_PARAM);
+        String defaultAllocationSize = configuration.getSetting(DEFAULT_ALLOCATION_SIZE, StandardConverters.STRING,
+                String.valueOf(FALLBACK_ALLOCATION_SIZE));
+        String allocationSize = configuration.getSetting(String.format(ALLOCATION_SIZE, sequenceName), StandardConverters.STRING,
+                defaultAllocationSize);
+        params.setProperty(INCREMENT_PARAM, allocationSize);
+        params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.yoojin.restapiwithspring.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR 스타일의 log-linear 히스토그램. 마이크로초 단위로 기록하며 상대 오차는 1/64 이하이다.
+ * 기록은 락 없이 atomic 연산만 사용하고, 백분위 계산은 읽는 쪽에서 한다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);
+    private static final long MAX_VALUE = (1L << 36) - 1; // 약 19시간
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        this.counts.incrementAndGet(indexOf(value));
+        this.totalCount.incrementAndGet();
+        long max = this.maxValue.get();
+        while (value > max && !this.maxValue.compareAndSet(max, value)) {
+            max = this.maxValue.get();
+        }
+    }
+
+    public long getTotalCount() {
+        return this.totalCount.get();
+    }
+
+    public long getMaxValue() {
+        return this.maxValue.get();
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 해당 백분위가 속한 버킷의 상한 값 (마이크로초)
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = this.totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), this.maxValue.get());
+            }
+        }
+        return this.maxValue.get();
+    }
+
+    static int indexOf(long value) {
+        if (value < (SUB_BUCKET_HALF << 1)) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < (SUB_BUCKET_HALF << 1)) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
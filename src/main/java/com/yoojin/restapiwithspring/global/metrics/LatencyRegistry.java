@@ -0,0 +1,84 @@
+package com.yoojin.restapiwithspring.global.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 계층(controller/service/repository)과 메서드별 히스토그램 저장소.
+ * 조회 경로는 (호출 대상 클래스, Method) 두 단계 map 조회뿐이라 문자열을 만들지 않는다.
+ */
+@Component
+public class LatencyRegistry {
+    public enum Layer {
+        CONTROLLER, SERVICE, REPOSITORY
+    }
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, Entry>> entries = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(Layer layer, Object target, Method method) {
+        ConcurrentMap<Method, Entry> methods = this.entries.get(target.getClass());
+        if (methods == null) {
+            methods = this.entries.computeIfAbsent(target.getClass(), k -> new ConcurrentHashMap<>());
+        }
+        Entry entry = methods.get(method);
+        if (entry == null) {
+            entry = methods.computeIfAbsent(method, m -> new Entry(layer, nameOf(target, m)));
+        }
+        return entry.histogram;
+    }
+
+    /**
+     * 계층별, 이름 순으로 정렬한 현재 값. 단위는 마이크로초.
+     */
+    public Map<Layer, Map<String, Snapshot>> snapshot() {
+        Map<Layer, Map<String, Snapshot>> result = new TreeMap<>();
+        this.entries.values().forEach(methods -> methods.values().forEach(entry -> {
+            LatencyHistogram histogram = entry.histogram;
+            result.computeIfAbsent(entry.layer, l -> new TreeMap<>())
+                    .put(entry.name, new Snapshot(histogram.getTotalCount(),
+                            histogram.getValueAtPercentile(50),
+                            histogram.getValueAtPercentile(99),
+                            histogram.getMaxValue()));
+        }));
+        return result;
+    }
+
+    private static String nameOf(Object target, Method method) {
+        Class<?> type = ClassUtils.getUserClass(target);
+        if (target instanceof Repository) {
+            for (Class<?> proxied : target.getClass().getInterfaces()) {
+                if (Repository.class.isAssignableFrom(proxied)) {
+                    type = proxied;
+                    break;
+                }
+            }
+        }
+        return type.getSimpleName() + "." + method.getName();
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Layer layer;
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long count;
+        private final long p50Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+    }
+}
@@ -0,0 +1,80 @@
+package com.yoojin.restapiwithspring.global.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yoojin.restapiwithspring.global.datasource.ReplicaRoutingDataSource;
+import com.yoojin.restapiwithspring.global.ratelimit.RateLimitFilter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+@RestController
+public class MetricsController {
+    private final LatencyRegistry latencyRegistry;
+    private final CacheManager cacheManager;
+    private final RateLimitFilter rateLimitFilter;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+
+    @GetMapping(value = "/metrics/latency", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Map<LatencyRegistry.Layer, Map<String, LatencyRegistry.Snapshot>> latency() {
+        return this.latencyRegistry.snapshot();
+    }
+
+    /**
+     * Caffeine 캐시의 hit/miss/eviction 횟수. 캐시가 꺼져 있으면(spring.cache.type=none) 비어 있다.
+     */
+    @GetMapping(value = "/metrics/caches", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, CacheStatistics> caches() {
+        Map<String, CacheStatistics> result = new TreeMap<>();
+        for (String name : this.cacheManager.getCacheNames()) {
+            Cache cache = this.cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = ((CaffeineCache) cache).getNativeCache();
+                CacheStats stats = nativeCache.stats();
+                result.put(name, new CacheStatistics(nativeCache.estimatedSize(),
+                        stats.hitCount(), stats.missCount(), stats.evictionCount()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 계정별 버킷 수, 처리 중인 /api/** 요청 수, 429 와 503 으로 돌려보낸 횟수.
+     */
+    @GetMapping(value = "/metrics/rate-limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public RateLimitFilter.Statistics rateLimit() {
+        return this.rateLimitFilter.statistics();
+    }
+
+    /**
+     * primary, 복제본 풀마다의 커넥션 수와 읽기를 primary 로 돌린 횟수. 복제본을 설정하지 않았으면(replica.url) 404.
+     */
+    @GetMapping(value = "/metrics/datasources", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ReplicaRoutingDataSource.Statistics> dataSources() {
+        ReplicaRoutingDataSource dataSource = this.replicaRoutingDataSource.getIfAvailable();
+        if (dataSource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(dataSource.statistics());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CacheStatistics {
+        private final long size;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+    }
+}
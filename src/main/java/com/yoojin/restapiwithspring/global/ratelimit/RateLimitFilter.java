@@ -0,0 +1,157 @@
+package com.yoojin.restapiwithspring.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /api/** 요청을 컨트롤러에 넘기기 전에 두 가지 한도로 거른다.
+ * 1. 인증된 계정마다 TokenBucket. 토큰이 없으면 429 와 Retry-After 를 돌려준다. 한도는 계정의 역할(AccountRole)로 정한다.
+ * 2. 전체 동시 처리 수. 넘치면 기다리지 않고 503 을 돌려줘서 DB 커넥션을 기다리는 요청이 쌓이지 않게 한다.
+ * 인증이 끝난 다음에 실행되도록 Spring Security 필터 체인 바로 뒤에 둔다.
+ * 비동기 모드(AsyncHandlerExecutor)에서는 작업이 끝날 때 동시 처리 수를 돌려준다.
+ */
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String API_PATH = "/api/";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+    private final Semaphore inFlight;
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong shed = new AtomicLong();
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.inFlight = new Semaphore(properties.getMaxConcurrentRequests());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !this.properties.isEnabled()
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            long wait = this.buckets.get(authentication.getName(), name -> newBucket(authentication))
+                    .tryAcquire(System.nanoTime());
+            if (wait > 0) {
+                this.throttled.incrementAndGet();
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999))));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                return;
+            }
+        }
+
+        if (!this.inFlight.tryAcquire()) {
+            this.shed.incrementAndGet();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                this.inFlight.release();
+            }
+        }
+    }
+
+    public Statistics statistics() {
+        return new Statistics(this.buckets.estimatedSize(),
+                this.properties.getMaxConcurrentRequests() - this.inFlight.availablePermits(),
+                this.throttled.get(), this.shed.get());
+    }
+
+    private TokenBucket newBucket(Authentication authentication) {
+        RateLimitProperties.Limit limit = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> roleLimit(authority.substring(ROLE_PREFIX.length())))
+                .filter(Objects::nonNull)
+                .max(Comparator.comparingDouble(RateLimitProperties.Limit::getRequestsPerSecond)
+                        .thenComparingInt(RateLimitProperties.Limit::getBurst))
+                .orElse(this.properties.getDefaultLimit());
+        return new TokenBucket(limit.getRequestsPerSecond(), limit.getBurst(), System.nanoTime());
+    }
+
+    private RateLimitProperties.Limit roleLimit(String role) {
+        try {
+            return this.properties.getRoles().get(AccountRole.valueOf(role));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Statistics {
+        private final long buckets;
+        private final int inFlight;
+        private final long throttledCount;
+        private final long shedCount;
+    }
+
+    /**
+     * 오류나 시간 초과로 끝나도 onComplete 는 항상 불린다.
+     */
+    private class ReleaseOnComplete implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            inFlight.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
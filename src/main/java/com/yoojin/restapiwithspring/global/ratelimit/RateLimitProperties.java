@@ -0,0 +1,53 @@
+package com.yoojin.restapiwithspring.global.ratelimit;
+
+import com.yoojin.restapiwithspring.account.AccountRole;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    /**
+     * false 이면 RateLimitFilter 가 아무것도 막지 않는다.
+     */
+    private boolean enabled = true;
+    /**
+     * /api/** 를 동시에 처리하는 최대 요청 수. 넘치면 기다리지 않고 503 을 돌려준다. DB 커넥션 풀보다 조금 크게 잡는다.
+     */
+    private int maxConcurrentRequests = 64;
+    /**
+     * 메모리에 두는 계정별 버킷 수.
+     */
+    private long maxBuckets = 100_000;
+    /**
+     * 이 시간 동안 요청이 없는 계정의 버킷은 버린다. 버린 버킷은 다음 요청 때 가득 찬 상태로 다시 만든다.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    /**
+     * 역할마다의 한도. 역할이 여러 개면 가장 큰 한도를 쓴다.
+     */
+    private Map<AccountRole, Limit> roles = new EnumMap<>(AccountRole.class);
+    /**
+     * roles 에 없는 역할만 가진 계정의 한도.
+     */
+    private Limit defaultLimit = new Limit();
+
+    @Getter @Setter
+    public static class Limit {
+        /**
+         * 오래 유지할 수 있는 초당 요청 수.
+         */
+        private double requestsPerSecond = 10;
+        /**
+         * 한 번에 몰아서 보낼 수 있는 요청 수.
+         */
+        private int burst = 20;
+    }
+}
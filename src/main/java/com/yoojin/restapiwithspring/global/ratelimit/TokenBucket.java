@@ -0,0 +1,41 @@
+package com.yoojin.restapiwithspring.global.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 초당 requestsPerSecond 개씩 채워지고 최대 burst 개까지 쌓이는 토큰 버킷.
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각" 하나만 AtomicLong 에 두고 CAS 로 바꾸므로(GCRA) 락이 없다.
+ * 시각은 System.nanoTime 기준의 나노초다.
+ */
+public class TokenBucket {
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double requestsPerSecond, int burst, long now) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerSecond and burst must be positive");
+        }
+        this.interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.tolerance = this.interval * burst;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰을 하나 꺼내면 0, 모자라면 다음 토큰이 생길 때까지 남은 나노초를 돌려준다.
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = this.fullAt.get();
+            long next = Math.max(current, now) + this.interval;
+            long wait = next - now - this.tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (this.fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.yoojin.restapiwithspring.global.scheduling;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 여러 노드에서 같은 스케줄 작업이 동시에 돌지 않도록 scheduler_lock 테이블(schema.sql)의 행을 임대(lease)한다.
+ * 임대 시간이 지나면 잡고 있던 노드가 죽었다고 보고 다른 노드가 가져간다. 시각은 각 노드의 시계를 쓰므로
+ * 임대 시간은 노드 간 시계 차이보다 충분히 길어야 한다.
+ */
+@Component
+public class SchedulerLock {
+    private static final String ACQUIRE_SQL = "update scheduler_lock set locked_until = ?, locked_by = ? where name = ? and locked_until <= ?";
+    private static final String INSERT_SQL = "insert into scheduler_lock (name, locked_until, locked_by) values (?, ?, ?)";
+    private static final String RELEASE_SQL = "update scheduler_lock set locked_until = ? where name = ? and locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public SchedulerLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * 잠금을 얻으면 true. 다른 노드가 잡고 있으면 기다리지 않고 false 를 돌려준다.
+     */
+    public boolean tryLock(String name, Duration lease) {
+        long now = System.currentTimeMillis();
+        Timestamp lockedUntil = new Timestamp(now + lease.toMillis());
+        if (this.jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, this.owner, name, new Timestamp(now)) == 1) {
+            return true;
+        }
+        try {
+            return this.jdbcTemplate.update(INSERT_SQL, name, lockedUntil, this.owner) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이 노드가 잡은 잠금만 푼다. 임대 시간이 지나 다른 노드가 가져간 잠금은 건드리지 않는다.
+     */
+    public void unlock(String name) {
+        this.jdbcTemplate.update(RELEASE_SQL, new Timestamp(System.currentTimeMillis()), name, this.owner);
+    }
+}
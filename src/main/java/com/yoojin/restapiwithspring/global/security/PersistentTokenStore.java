@@ -0,0 +1,154 @@
+package com.yoojin.restapiwithspring.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * oauth_access_token / oauth_refresh_token 테이블(schema.sql)에 토큰을 저장하고,
+ * 조회는 메모리 캐시를 먼저 본다. 만료된 토큰은 sweepExpiredTokens 가 주기적으로 지운다.
+ */
+@Slf4j
+public class PersistentTokenStore extends JdbcTokenStore {
+    private static final String UPDATE_ACCESS_TOKEN_EXPIRATION_SQL = "update oauth_access_token set expiration = ? where token_id = ?";
+    private static final String UPDATE_REFRESH_TOKEN_EXPIRATION_SQL = "update oauth_refresh_token set expiration = ? where token_id = ?";
+    private static final String DELETE_EXPIRED_ACCESS_TOKENS_SQL = "delete from oauth_access_token where expiration < ?";
+    private static final String DELETE_EXPIRED_REFRESH_TOKENS_SQL = "delete from oauth_refresh_token where expiration < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, OAuth2AccessToken> accessTokens;
+    private final Cache<String, OAuth2Authentication> authentications;
+
+    public PersistentTokenStore(DataSource dataSource, TokenStoreProperties properties) {
+        super(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        Duration ttl = properties.getFrontCacheTtl();
+        this.accessTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getFrontCacheSize())
+                .expireAfter(new TokenExpiry(ttl))
+                .build();
+        this.authentications = Caffeine.newBuilder()
+                .maximumSize(properties.getFrontCacheSize())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        super.storeAccessToken(token, authentication);
+        if (token.getExpiration() != null) {
+            this.jdbcTemplate.update(UPDATE_ACCESS_TOKEN_EXPIRATION_SQL,
+                    new Timestamp(token.getExpiration().getTime()), extractTokenKey(token.getValue()));
+        }
+        this.accessTokens.put(token.getValue(), token);
+        this.authentications.put(token.getValue(), authentication);
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        OAuth2AccessToken token = this.accessTokens.getIfPresent(tokenValue);
+        if (token == null) {
+            token = super.readAccessToken(tokenValue);
+            if (token != null) {
+                this.accessTokens.put(tokenValue, token);
+            }
+        }
+        return token;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        OAuth2Authentication authentication = this.authentications.getIfPresent(token);
+        if (authentication == null) {
+            authentication = super.readAuthentication(token);
+            if (authentication != null) {
+                this.authentications.put(token, authentication);
+            }
+        }
+        return authentication;
+    }
+
+    @Override
+    public void removeAccessToken(String tokenValue) {
+        super.removeAccessToken(tokenValue);
+        this.accessTokens.invalidate(tokenValue);
+        this.authentications.invalidate(tokenValue);
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        super.storeRefreshToken(refreshToken, authentication);
+        if (refreshToken instanceof ExpiringOAuth2RefreshToken) {
+            Date expiration = ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration();
+            this.jdbcTemplate.update(UPDATE_REFRESH_TOKEN_EXPIRATION_SQL,
+                    new Timestamp(expiration.getTime()), extractTokenKey(refreshToken.getValue()));
+        }
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(String refreshToken) {
+        super.removeAccessTokenUsingRefreshToken(refreshToken);
+        // refresh token 으로는 캐시 키를 알 수 없으므로 캐시를 훑는다. 토큰 갱신 때만 불리므로 드물다.
+        this.accessTokens.asMap().entrySet().removeIf(entry -> {
+            OAuth2RefreshToken cached = entry.getValue().getRefreshToken();
+            if (cached != null && refreshToken.equals(cached.getValue())) {
+                this.authentications.invalidate(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${token-store.sweep-interval:PT10M}")
+    public void sweepExpiredTokens() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        int accessTokens = this.jdbcTemplate.update(DELETE_EXPIRED_ACCESS_TOKENS_SQL, now);
+        int refreshTokens = this.jdbcTemplate.update(DELETE_EXPIRED_REFRESH_TOKENS_SQL, now);
+        if (accessTokens + refreshTokens > 0) {
+            log.info("Swept {} expired access tokens and {} expired refresh tokens", accessTokens, refreshTokens);
+        }
+    }
+
+    /**
+     * 캐시 유지 시간과 토큰의 남은 유효 시간 중 짧은 쪽.
+     */
+    private static class TokenExpiry implements Expiry<String, OAuth2AccessToken> {
+        private final long ttlNanos;
+
+        private TokenExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, OAuth2AccessToken token, long currentTime) {
+            if (token.getExpiration() == null) {
+                return this.ttlNanos;
+            }
+            long remaining = Duration.ofMillis(token.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(this.ttlNanos, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, OAuth2AccessToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, OAuth2AccessToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
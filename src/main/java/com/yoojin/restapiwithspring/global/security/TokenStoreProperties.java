@@ -0,0 +1,22 @@
+package com.yoojin.restapiwithspring.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "token-store")
+public class TokenStoreProperties {
+    /**
+     * 메모리에 올려 두는 토큰 수.
+     */
+    private long frontCacheSize = 10_000;
+    /**
+     * 메모리 캐시 유지 시간. 다른 노드에서 폐기한 토큰은 최대 이 시간만큼 더 유효할 수 있다.
+     */
+    private Duration frontCacheTtl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,18 @@
+-- 참가 신청(Enrollment) 테이블과 시퀀스. 운영 DB 에 한 번 실행한다. enrollment_stripe 는 schema.sql 이 만든다.
+-- INCREMENT BY 는 id_generator.*.allocation_size 와 같아야 한다.
+create sequence if not exists enrollment_seq increment by 50;
+
+create table if not exists enrollment (
+    id          integer primary key,
+    event_id    integer   not null references event (id),
+    account_id  integer   not null references account (id),
+    stripe      integer,
+    enrolled_at timestamp,
+    constraint uk_enrollment_event_account unique (event_id, account_id)
+);
+
+-- stripe 개수와 모집 인원을 저장하기 전에 만든 enrollment_stripe 를 고친다.
+-- 옛 행을 지우면 다음 신청이나 이벤트 수정 때 EnrollmentCounter.resize 가 신청 수를 세어 다시 만든다.
+alter table enrollment_stripe add column if not exists stripes integer;
+alter table enrollment_stripe add column if not exists total integer;
+delete from enrollment_stripe where stripes is null or total is null;
@@ -0,0 +1,12 @@
+-- 이벤트 검색(GET /api/events/search)용 인덱스. 운영 DB 에 한 번 실행한다.
+-- q 검색은 lower(name) like '%값%' 형태라서 앞뒤가 열린 LIKE 도 탈 수 있는 trigram GIN 인덱스를 만든다.
+-- 한두 글자 검색어는 trigram 이 만들어지지 않아 인덱스를 타지 않는다.
+create extension if not exists pg_trgm;
+create index concurrently if not exists idx_event_name_trgm on event using gin (lower(name) gin_trgm_ops);
+create index concurrently if not exists idx_event_description_trgm on event using gin (lower(description) gin_trgm_ops);
+
+-- 나머지 조건용 B-tree 인덱스. Event 의 @Table(indexes) 와 같다.
+-- offline, free 는 값이 두 가지뿐이라 따로 인덱스를 두지 않는다.
+create index concurrently if not exists idx_event_event_status_id on event (event_status, id);
+create index concurrently if not exists idx_event_base_price_id on event (base_price, id);
+create index concurrently if not exists idx_event_enrollment_period on event (begin_enrollment_date_time, close_enrollment_date_time);
@@ -0,0 +1,6 @@
+-- EventStatusScheduler 가 바꿀 이벤트를 찾는 인덱스. Event 의 @Table(indexes) 와 같다. 운영 DB 에 한 번 실행한다.
+-- 상태가 앞에 있어서 이미 ENDED 인 이벤트가 쌓여도 아직 옮길 이벤트만 훑는다.
+create index concurrently if not exists idx_event_status_begin_enrollment on event (event_status, begin_enrollment_date_time);
+create index concurrently if not exists idx_event_status_close_enrollment on event (event_status, close_enrollment_date_time);
+create index concurrently if not exists idx_event_status_begin_event on event (event_status, begin_event_date_time);
+create index concurrently if not exists idx_event_status_end_event on event (event_status, end_event_date_time);
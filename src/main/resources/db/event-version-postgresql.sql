@@ -0,0 +1,2 @@
+-- Event 에 @Version 컬럼을 추가한다. 기존 행은 버전 0 에서 시작한다.
+alter table event add column if not exists version bigint not null default 0;
@@ -0,0 +1,8 @@
+-- hibernate_sequence(allocation size 1)로 만든 기존 데이터를 엔티티별 pooled-lo 시퀀스로 옮긴다.
+-- 애플리케이션을 내린 상태에서 한 번 실행한다. INCREMENT BY 는 id_generator.*.allocation_size 와 같아야 하며,
+-- allocation size 를 바꿀 때는 ALTER SEQUENCE ... INCREMENT BY 도 함께 바꾼다.
+create sequence if not exists event_seq increment by 50;
+select setval('event_seq', (select coalesce(max(id), 0) + 1 from event), false);
+
+create sequence if not exists account_seq increment by 50;
+select setval('account_seq', (select coalesce(max(id), 0) + 1 from account), false);
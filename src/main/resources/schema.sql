@@ -0,0 +1,43 @@
+-- PersistentTokenStore (spring-security-oauth2 JdbcTokenStore 스키마 + 만료 시각)
+create table if not exists oauth_access_token (
+    token_id          varchar(256),
+    token             bytea,
+    authentication_id varchar(256) primary key,
+    user_name         varchar(256),
+    client_id         varchar(256),
+    authentication    bytea,
+    refresh_token     varchar(256),
+    expiration        timestamp
+);
+create index if not exists idx_oauth_access_token_token_id on oauth_access_token (token_id);
+create index if not exists idx_oauth_access_token_refresh_token on oauth_access_token (refresh_token);
+create index if not exists idx_oauth_access_token_client_user on oauth_access_token (client_id, user_name);
+create index if not exists idx_oauth_access_token_expiration on oauth_access_token (expiration);
+
+create table if not exists oauth_refresh_token (
+    token_id       varchar(256),
+    token          bytea,
+    authentication bytea,
+    expiration     timestamp
+);
+create index if not exists idx_oauth_refresh_token_token_id on oauth_refresh_token (token_id);
+create index if not exists idx_oauth_refresh_token_expiration on oauth_refresh_token (expiration);
+
+-- SchedulerLock: 스케줄 작업마다 한 행. locked_until 이 지나면 다른 노드가 가져갈 수 있다.
+create table if not exists scheduler_lock (
+    name         varchar(64) primary key,
+    locked_until timestamp    not null,
+    locked_by    varchar(255) not null
+);
+
+-- EnrollmentCounter: 이벤트마다 stripe 개의 행에 모집 인원을 나눠 담는다.
+-- stripes 는 이벤트의 행 개수, total 은 행을 나눌 때의 모집 인원(limit_of_enrollment)이다.
+create table if not exists enrollment_stripe (
+    event_id integer not null,
+    stripe   integer not null,
+    capacity integer not null,
+    taken    integer not null,
+    stripes  integer not null,
+    total    integer not null,
+    primary key (event_id, stripe)
+);
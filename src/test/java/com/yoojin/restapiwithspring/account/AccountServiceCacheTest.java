@@ -0,0 +1,84 @@
+package com.yoojin.restapiwithspring.account;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountServiceCacheTest {
+    @Autowired
+    AccountService accountService;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    PasswordEncoder passwordEncoder;
+    @Autowired
+    CacheManager cacheManager;
+
+    @AfterEach
+    public void tearDown() {
+        this.accountRepository.deleteAll();
+        this.cacheManager.getCache(AccountService.USERS_CACHE).clear();
+    }
+
+    @Test
+    @TestDescription("캐시에서 읽어도 비밀번호가 지워진 인스턴스를 돌려주지 않는다")
+    public void loadUserByUsername_cachedCopy() {
+        String email = "cache@email.com";
+        this.accountService.saveAccount(account(email, "yoojin"));
+
+        UserDetails first = this.accountService.loadUserByUsername(email);
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = this.accountService.loadUserByUsername(email);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(this.passwordEncoder.matches("yoojin", second.getPassword())).isTrue();
+        assertThat(second.getAuthorities()).extracting("authority")
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+        assertThat(this.cacheManager.getCache(AccountService.USERS_CACHE).get(email)).isNotNull();
+    }
+
+    @Test
+    @TestDescription("계정을 저장하면 캐시가 비워진다")
+    public void saveAccount_evicts() {
+        String email = "evict@email.com";
+        Account account = this.accountService.saveAccount(account(email, "before"));
+        this.accountService.loadUserByUsername(email);
+
+        account.setPassword("after");
+        this.accountService.saveAccount(account);
+
+        assertThat(this.passwordEncoder.matches("after",
+                this.accountService.loadUserByUsername(email).getPassword())).isTrue();
+    }
+
+    @Test
+    @TestDescription("없는 사용자는 UsernameNotFoundException")
+    public void loadUserByUsername_notFound() {
+        assertThatThrownBy(() -> this.accountService.loadUserByUsername("wrongMail@gmail.com"))
+                .isInstanceOf(UsernameNotFoundException.class)
+                .hasMessageContaining("wrongMail@gmail.com");
+    }
+
+    private Account account(String email, String password) {
+        return Account.builder()
+                .email(email)
+                .password(password)
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build();
+    }
+}
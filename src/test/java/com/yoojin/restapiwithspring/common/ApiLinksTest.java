@@ -0,0 +1,50 @@
+package com.yoojin.restapiwithspring.common;
+
+import com.yoojin.restapiwithspring.Index.IndexController;
+import com.yoojin.restapiwithspring.enrollment.EnrollmentController;
+import com.yoojin.restapiwithspring.event.EventController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class ApiLinksTest {
+
+    @BeforeEach
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/events");
+        request.setScheme("https");
+        request.setServerName("api.example.com");
+        request.setServerPort(8443);
+        request.setContextPath("/app");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @TestDescription("linkTo 로 만든 링크와 같은 href")
+    public void sameAsLinkTo() {
+        assertThat(ApiLinks.events().getHref()).isEqualTo(linkTo(EventController.class).toUri().toString());
+        assertThat(ApiLinks.event(42).getHref()).isEqualTo(linkTo(EventController.class).slash(42).toUri().toString());
+        assertThat(ApiLinks.index().getHref()).isEqualTo(linkTo(methodOn(IndexController.class).index()).toUri().toString());
+        assertThat(ApiLinks.event(42).getHref()).isEqualTo("https://api.example.com:8443/app/api/events/42");
+        assertThat(ApiLinks.enrollments(42).getHref()).isEqualTo(linkTo(EnrollmentController.class, 42).toUri().toString());
+    }
+
+    @Test
+    @TestDescription("문서 링크는 상대 경로")
+    public void profile() {
+        assertThat(ApiLinks.profile("resources-events-get").getHref()).isEqualTo("/docs/index.html#resources-events-get");
+        assertThat(ApiLinks.profile("resources-events-get").getRel().value()).isEqualTo("profile");
+    }
+}
@@ -0,0 +1,36 @@
+package com.yoojin.restapiwithspring.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonMergePatchTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @TestDescription("RFC 7396 의 예: 바꾸고, null 로 지우고, 중첩 객체는 다시 합친다")
+    public void rfcExample() throws Exception {
+        JsonNode target = json("{'title':'Goodbye!','author':{'givenName':'John','familyName':'Doe'},"
+                + "'tags':['example','sample'],'content':'This will be unchanged'}");
+        JsonNode patch = json("{'title':'Hello!','phoneNumber':'+01-123-456-7890',"
+                + "'author':{'familyName':null},'tags':['example']}");
+
+        assertThat(JsonMergePatch.apply(target, patch)).isEqualTo(json("{'title':'Hello!',"
+                + "'author':{'givenName':'John'},'tags':['example'],'content':'This will be unchanged',"
+                + "'phoneNumber':'+01-123-456-7890'}"));
+    }
+
+    @Test
+    @TestDescription("객체가 아닌 패치는 통째로 바꾸고, 없던 객체에 넣는 패치에서도 null 은 빠진다")
+    public void nonObjects() throws Exception {
+        assertThat(JsonMergePatch.apply(json("{'a':'b'}"), json("['c']"))).isEqualTo(json("['c']"));
+        assertThat(JsonMergePatch.apply(json("{'a':'foo'}"), json("{'a':{'bb':{'ccc':null}}}")))
+                .isEqualTo(json("{'a':{'bb':{}}}"));
+    }
+
+    private JsonNode json(String json) throws Exception {
+        return this.objectMapper.readTree(json.replace('\'', '"'));
+    }
+}
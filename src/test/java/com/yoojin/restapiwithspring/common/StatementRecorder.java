@@ -0,0 +1,34 @@
+package com.yoojin.restapiwithspring.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 모은다. 테스트에서 SQL 에 들어간 컬럼과 조인을 확인할 때 쓴다.
+ * 사용하는 테스트는 {@link #PROPERTY} 를 @TestPropertySource 로 넣는다.
+ */
+public class StatementRecorder implements StatementInspector {
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.yoojin.restapiwithspring.common.StatementRecorder";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> startingWith(String prefix) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.startsWith(prefix))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,121 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventFixtures;
+import com.yoojin.restapiwithspring.event.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모집 시작 시각에 신청이 몰리는 상황. 여러 스레드가 동시에 신청해도 모집 인원을 넘기지 않는지 확인하고 처리량을 남긴다.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentConcurrencyTest {
+    private static final int ACCOUNTS = 1000;
+    private static final int LIMIT = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+    @Autowired
+    EnrollmentCounter enrollmentCounter;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Event event;
+    private List<Account> accounts = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        this.enrollmentRepository.deleteAllInBatch();
+        if (this.event != null) {
+            this.jdbcTemplate.update("delete from enrollment_stripe where event_id = ?", this.event.getId());
+            this.eventRepository.delete(this.event);
+        }
+        this.accountRepository.deleteAll(this.accounts);
+    }
+
+    @Test
+    @TestDescription("동시에 몰린 신청을 모집 인원만큼만 받는다")
+    public void enrollConcurrently() throws Exception {
+        this.event = saveEvent(LIMIT);
+        this.accounts = this.accountRepository.saveAll(IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> Account.builder()
+                        .email("stress" + i + "@email.com")
+                        .password("yoojin")
+                        .roles(Set.of(AccountRole.USER))
+                        .build())
+                .collect(Collectors.toList()));
+
+        AtomicInteger enrolled = new AtomicInteger();
+        Map<String, AtomicInteger> rejected = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Account account : this.accounts) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    this.enrollmentService.enroll(this.event, account.getId(), LocalDateTime.now());
+                    enrolled.incrementAndGet();
+                } catch (EnrollmentException e) {
+                    rejected.computeIfAbsent(e.getCode(), code -> new AtomicInteger()).incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        log.info("{} enroll calls on {} threads in {} ms ({} calls/s), enrolled {}, rejected {}",
+                ACCOUNTS, THREADS, elapsed / 1_000_000, (long) (ACCOUNTS * 1e9 / elapsed), enrolled.get(), rejected);
+
+        assertThat(enrolled.get()).isEqualTo(LIMIT);
+        assertThat(rejected.keySet()).containsOnly(EnrollmentException.FULL);
+        assertThat(rejected.get(EnrollmentException.FULL).get()).isEqualTo(ACCOUNTS - LIMIT);
+        assertThat(this.enrollmentRepository.countByEventId(this.event.getId())).isEqualTo(LIMIT);
+        assertThat(this.enrollmentCounter.taken(this.event.getId())).isEqualTo(LIMIT);
+    }
+
+    private Event saveEvent(int limitOfEnrollment) {
+        return this.eventRepository.save(EventFixtures.enrollingEventBuilder(limitOfEnrollment)
+                .build());
+    }
+}
@@ -0,0 +1,172 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventFixtures;
+import com.yoojin.restapiwithspring.event.EventRepository;
+import com.yoojin.restapiwithspring.event.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(username = EnrollmentControllerTest.EMAIL)
+class EnrollmentControllerTest extends BaseControllerTest {
+    static final String EMAIL = "enroll@email.com";
+
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @BeforeEach
+    public void setUp() {
+        saveAccount(EMAIL);
+    }
+
+    @Test
+    @TestDescription("모집 중인 이벤트에 참가 신청")
+    public void enroll() throws Exception {
+        Event event = saveEvent(EventStatus.BEGAN_ENROLLMENT, 10);
+
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+                        .with(csrf())
+                        .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("id").exists())
+                .andExpect(jsonPath("enrolledAt").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.event").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-enrollment",
+                        links(
+                                linkWithRel("self").description("link to own enrollment, DELETE to cancel"),
+                                linkWithRel("event").description("link to event"),
+                                linkWithRel("profile").description("link to profile")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").description("Id of enrollment"),
+                                fieldWithPath("enrolledAt").description("Date time of enrollment"),
+                                subsectionWithPath("_links").ignored()
+                        )));
+
+        assertThat(this.enrollmentRepository.countByEventId(event.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("같은 계정이 다시 신청하면 409 alreadyEnrolled")
+    public void enroll_twice() throws Exception {
+        Event event = saveEvent(EventStatus.BEGAN_ENROLLMENT, 10);
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                .andExpect(status().isCreated());
+
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("errors[0].code").value(EnrollmentException.ALREADY_ENROLLED));
+    }
+
+    @Test
+    @TestDescription("자리가 없으면 409 enrollmentFull, 취소하면 자리가 돌아온다")
+    public void enroll_full() throws Exception {
+        Event event = saveEvent(EventStatus.BEGAN_ENROLLMENT, 1);
+        saveAccount("other@email.com");
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                .andExpect(status().isCreated());
+
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+                        .with(csrf())
+                        .with(user("other@email.com")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("errors[0].code").value(EnrollmentException.FULL));
+
+        this.mockMvc.perform(delete("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                .andExpect(status().isNoContent());
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+                        .with(csrf())
+                        .with(user("other@email.com")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @TestDescription("받은 신청보다 적게 모집 인원을 줄이면 400 limitBelowEnrollments")
+    public void changeLimit_belowEnrollments() throws Exception {
+        Event event = saveEvent(EventStatus.BEGAN_ENROLLMENT, 2);
+        saveAccount("other@email.com");
+        enroll(event, EMAIL).andExpect(status().isCreated());
+        enroll(event, "other@email.com").andExpect(status().isCreated());
+
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"limitOfEnrollment\": 1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].filed").value("limitOfEnrollment"))
+                .andExpect(jsonPath("errors[0].code").value(EnrollmentException.LIMIT_BELOW_ENROLLED));
+    }
+
+    @Test
+    @TestDescription("모집 중이 아닌 이벤트는 409 enrollmentClosed")
+    public void enroll_closed() throws Exception {
+        Event event = saveEvent(EventStatus.DRAFT, 10);
+
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("errors[0].code").value(EnrollmentException.CLOSED))
+                .andExpect(jsonPath("_links.index").exists());
+    }
+
+    @Test
+    @TestDescription("없는 이벤트에 신청하거나 신청하지 않은 이벤트를 취소하면 404")
+    public void enroll_notFound() throws Exception {
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", 11883).with(csrf()))
+                .andExpect(status().isNotFound());
+
+        Event event = saveEvent(EventStatus.BEGAN_ENROLLMENT, 10);
+        this.mockMvc.perform(delete("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions enroll(Event event, String email) throws Exception {
+        return this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+                .with(csrf())
+                .with(user(email)));
+    }
+
+    private void saveAccount(String email) {
+        this.accountRepository.save(Account.builder()
+                .email(email)
+                .password("yoojin")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+    }
+
+    private Event saveEvent(EventStatus status, int limitOfEnrollment) {
+        return this.eventRepository.save(EventFixtures.enrollingEventBuilder(limitOfEnrollment)
+                .eventStatus(status)
+                .build());
+    }
+}
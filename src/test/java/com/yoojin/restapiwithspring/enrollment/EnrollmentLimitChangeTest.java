@@ -0,0 +1,192 @@
+package com.yoojin.restapiwithspring.enrollment;
+
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventFixtures;
+import com.yoojin.restapiwithspring.event.EventRepository;
+import com.yoojin.restapiwithspring.event.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 신청을 받은 뒤 모집 인원을 바꾼다. 모집 인원을 되돌리는 경우까지 보려고 테스트 트랜잭션 없이 실행하고 직접 지운다.
+ * EventService 는 캐시된 이벤트를 주므로 신청에는 처음 저장한 인스턴스를 계속 넘겨서 다른 노드의 오래된 캐시처럼 쓴다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentLimitChangeTest {
+    @Autowired
+    EnrollmentService enrollmentService;
+    @Autowired
+    EnrollmentCounter enrollmentCounter;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    @Autowired
+    EventService eventService;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private Event event;
+    private List<Account> accounts;
+
+    @BeforeEach
+    public void setUp() {
+        this.accounts = this.accountRepository.saveAll(IntStream.range(0, 6)
+                .mapToObj(i -> Account.builder()
+                        .email("limit" + i + "@email.com")
+                        .password("yoojin")
+                        .roles(Set.of(AccountRole.USER))
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (this.event != null) {
+            this.jdbcTemplate.update("delete from enrollment where event_id = ?", this.event.getId());
+            this.jdbcTemplate.update("delete from enrollment_stripe where event_id = ?", this.event.getId());
+            this.eventRepository.deleteById(this.event.getId());
+        }
+        this.accountRepository.deleteAll(this.accounts);
+    }
+
+    @Test
+    @TestDescription("모집 인원을 늘리면 늘린 만큼 더 받는다")
+    public void raiseLimit() {
+        this.event = saveEvent(1);
+        assertThat(enroll(0)).isNull();
+        assertThat(enroll(1)).isEqualTo(EnrollmentException.FULL);
+
+        changeLimit(40);
+
+        for (int i = 1; i < this.accounts.size(); i++) {
+            assertThat(enroll(i)).isNull();
+        }
+        assertThat(this.enrollmentCounter.taken(this.event.getId())).isEqualTo(this.accounts.size());
+    }
+
+    @Test
+    @TestDescription("모집 인원을 줄이면 줄인 인원까지만 받고, 받은 신청보다 적게는 줄이지 않는다")
+    public void lowerLimit() {
+        this.event = saveEvent(40);
+        for (int i = 0; i < 3; i++) {
+            assertThat(enroll(i)).isNull();
+        }
+
+        assertThatThrownBy(() -> changeLimit(2))
+                .isInstanceOf(EnrollmentException.class)
+                .extracting("code").isEqualTo(EnrollmentException.LIMIT_BELOW_ENROLLED);
+        assertThat(this.eventRepository.findById(this.event.getId()).orElseThrow().getLimitOfEnrollment()).isEqualTo(40);
+
+        changeLimit(4);
+
+        assertThat(enroll(3)).isNull();
+        assertThat(enroll(4)).isEqualTo(EnrollmentException.FULL);
+        assertThat(this.enrollmentService.cancel(this.event.getId(), this.accounts.get(0).getId())).isTrue();
+        assertThat(enroll(4)).isNull();
+        assertThat(enroll(5)).isEqualTo(EnrollmentException.FULL);
+        assertThat(this.enrollmentRepository.countByEventId(this.event.getId())).isEqualTo(4);
+        assertThat(this.enrollmentCounter.taken(this.event.getId())).isEqualTo(4);
+    }
+
+    @Test
+    @TestDescription("제한이 없던 이벤트에 모집 인원을 정하면 그동안 받은 신청을 센다")
+    public void limitUnlimitedEvent() {
+        this.event = saveEvent(0);
+        for (int i = 0; i < 3; i++) {
+            assertThat(enroll(i)).isNull();
+        }
+
+        changeLimit(4);
+
+        assertThat(this.enrollmentCounter.taken(this.event.getId())).isEqualTo(3);
+        assertThat(enroll(3)).isNull();
+        assertThat(enroll(4)).isEqualTo(EnrollmentException.FULL);
+
+        changeLimit(0);
+
+        assertThat(enroll(4)).isNull();
+        assertThat(this.enrollmentCounter.taken(this.event.getId())).isZero();
+        assertThat(this.enrollmentRepository.countByEventId(this.event.getId())).isEqualTo(5);
+    }
+
+    @Test
+    @TestDescription("모집 인원을 바꾸지 않은 수정은 자리를 받는 중인 신청 트랜잭션을 기다리지 않는다")
+    public void editWithoutLimitChange() throws Exception {
+        this.event = saveEvent(40);
+        assertThat(enroll(0)).isNull();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> enrolling = CompletableFuture.runAsync(() -> this.transactionTemplate.executeWithoutResult(status -> {
+            this.jdbcTemplate.update("update enrollment_stripe set taken = taken where event_id = ?", this.event.getId());
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            Event existing = this.eventService.getEventForUpdate(this.event.getId()).orElseThrow();
+            existing.setDescription("Changed while enrolling");
+            this.eventService.saveEvent(existing, existing.getLimitOfEnrollment());
+        } finally {
+            release.countDown();
+            enrolling.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(this.eventRepository.findById(this.event.getId()).orElseThrow().getDescription())
+                .isEqualTo("Changed while enrolling");
+    }
+
+    /**
+     * 받으면 null, 받지 못하면 EnrollmentException 의 code.
+     */
+    private String enroll(int account) {
+        try {
+            this.enrollmentService.enroll(this.event, this.accounts.get(account).getId(), LocalDateTime.now());
+            return null;
+        } catch (EnrollmentException e) {
+            return e.getCode();
+        }
+    }
+
+    private void changeLimit(int limitOfEnrollment) {
+        Event existing = this.eventService.getEventForUpdate(this.event.getId()).orElseThrow();
+        int previousLimitOfEnrollment = existing.getLimitOfEnrollment();
+        existing.setLimitOfEnrollment(limitOfEnrollment);
+        this.eventService.saveEvent(existing, previousLimitOfEnrollment);
+    }
+
+    private Event saveEvent(int limitOfEnrollment) {
+        return this.eventRepository.save(EventFixtures.enrollingEventBuilder(limitOfEnrollment)
+                .build());
+    }
+}
@@ -0,0 +1,117 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 모드에서는 작업 스레드가 커밋된 데이터만 볼 수 있으므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest(properties = "async-handler.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class EventAsyncModeTest {
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    EventRepository eventRepository;
+
+    @AfterEach
+    public void tearDown() {
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("이벤트 조회가 작업 스레드에서 실행되고 링크와 ETag 가 그대로 만들어진다")
+    public void getEvent() throws Exception {
+        Event event = generateEvent();
+
+        perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("name").value("Spring"))
+                .andExpect(jsonPath("_links.self.href").value("http://localhost/api/events/" + event.getId()));
+
+        perform(get("/api/events/{id}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @TestDescription("목록 조회")
+    public void getEvents() throws Exception {
+        generateEvent();
+
+        perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("Spring"))
+                .andExpect(jsonPath("_links.self").exists());
+    }
+
+    @Test
+    @TestDescription("생성과 수정, 잘못된 입력의 400")
+    public void createAndUpdateEvent() throws Exception {
+        perform(post("/api/events").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Spring", 200))))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(HttpHeaders.LOCATION));
+
+        Event event = generateEvent();
+        perform(put("/api/events/{id}", event.getId()).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Updated", 200))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("Updated"));
+
+        perform(post("/api/events").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Spring", 10))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("_links.index").exists());
+    }
+
+    private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = this.mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return this.mockMvc.perform(asyncDispatch(result));
+    }
+
+    private Event generateEvent() {
+        Event event = new EventMapper().toEvent(eventDto("Spring", 200));
+        event.update();
+        return this.eventRepository.save(event);
+    }
+
+    private EventDto eventDto(String name, int maxPrice) {
+        return EventFixtures.eventDtoBuilder()
+                .name(name)
+                .maxPrice(maxPrice)
+                .build();
+    }
+}
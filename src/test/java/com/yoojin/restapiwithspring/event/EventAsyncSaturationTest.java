@@ -0,0 +1,83 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 작업 스레드 하나, 대기열 없이 실행기를 채운 다음 요청이 기다리지 않고 503 을 받는지 본다.
+ */
+@SpringBootTest(properties = {
+        "async-handler.enabled=true",
+        "async-handler.pool-size=1",
+        "async-handler.queue-capacity=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class EventAsyncSaturationTest {
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    EventRepository eventRepository;
+    @SpyBean
+    EventService eventService;
+
+    @AfterEach
+    public void tearDown() {
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("작업 스레드와 대기열이 모두 차면 서블릿 스레드를 막지 않고 503 을 돌려준다")
+    public void getEvent_saturated() throws Exception {
+        Event blocked = saveEvent("Blocked");
+        Event other = saveEvent("Other");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(this.eventService).getEvent(eq(blocked.getId()));
+
+        MvcResult first = this.mockMvc.perform(get("/api/events/{id}", blocked.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        long started = System.nanoTime();
+        this.mockMvc.perform(get("/api/events/{id}", other.getId()))
+                .andExpect(status().isServiceUnavailable());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+
+        release.countDown();
+        this.mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk());
+    }
+
+    private Event saveEvent(String name) {
+        return this.eventRepository.save(EventFixtures.eventBuilder()
+                .name(name)
+                .build());
+    }
+}
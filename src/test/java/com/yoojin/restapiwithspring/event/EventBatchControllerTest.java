@@ -0,0 +1,104 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class EventBatchControllerTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @Test
+    @TestDescription("이벤트 여러 개를 한 번에 생성")
+    public void createEvents() throws Exception {
+        long before = this.eventRepository.count();
+        List<EventDto> eventDtos = IntStream.range(0, 120).mapToObj(this::eventDto).collect(Collectors.toList());
+
+        this.mockMvc.perform(post("/api/events/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaTypes.HAL_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDtos)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(120))
+                .andExpect(jsonPath("_embedded.eventList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].offline").value(true))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        assertThat(this.eventRepository.count()).isEqualTo(before + 120);
+    }
+
+    @Test
+    @TestDescription("잘못된 항목이 있으면 항목 순번과 함께 400, 아무것도 저장하지 않는다")
+    public void createEvents_bad_request() throws Exception {
+        long before = this.eventRepository.count();
+        EventDto emptyName = eventDto(1);
+        emptyName.setName("");
+        EventDto wrongPrice = eventDto(2);
+        wrongPrice.setBasePrice(20000);
+        wrongPrice.setMaxPrice(1000);
+
+        this.mockMvc.perform(post("/api/events/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(List.of(eventDto(0), emptyName, wrongPrice))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].objectName").value("events[1]"))
+                .andExpect(jsonPath("errors[0].filed").value("name"))
+                .andExpect(jsonPath("errors[1].objectName").value("events[2]"))
+                .andExpect(jsonPath("errors[1].code").value("wrongPrice"))
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertThat(this.eventRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    @TestDescription("null 항목은 항목 순번과 함께 400 nullEvent")
+    public void createEvents_nullItem() throws Exception {
+        long before = this.eventRepository.count();
+
+        this.mockMvc.perform(post("/api/events/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + this.objectMapper.writeValueAsString(eventDto(0)) + ", null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].objectName").value("events[1]"))
+                .andExpect(jsonPath("errors[0].code").value("nullEvent"));
+
+        assertThat(this.eventRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    @TestDescription("빈 목록은 400")
+    public void createEvents_empty() throws Exception {
+        this.mockMvc.perform(post("/api/events/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongBatchSize"));
+    }
+
+    private EventDto eventDto(int index) {
+        return EventFixtures.eventDtoBuilder()
+                .name("Spring " + index)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.yoojin.restapiwithspring.global.aop.config.BinaryFormatConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class EventBinaryFormatTest extends BaseControllerTest {
+    private static final MediaType SMILE = MediaType.parseMediaType(BinaryFormatConfig.APPLICATION_SMILE_VALUE);
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Test
+    @TestDescription("Accept 로 CBOR, Smile 을 고르면 같은 HAL 구조를 바이너리로 받는다")
+    public void getEvent() throws Exception {
+        Event event = this.eventRepository.saveAndFlush(new EventMapper().toEvent(EventFixtures.eventDto()));
+
+        JsonNode cbor = read(Jackson2ObjectMapperBuilder.cbor().build(), this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray());
+        assertThat(cbor.path("name").asText()).isEqualTo("Spring");
+        assertThat(cbor.path("_links").path("self").path("href").asText()).endsWith("/api/events/" + event.getId());
+
+        JsonNode smile = read(Jackson2ObjectMapperBuilder.smile().build(), this.mockMvc.perform(get("/api/events")
+                        .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray());
+        assertThat(smile.path("_embedded").path("eventList").size()).isPositive();
+        assertThat(smile.path("page").path("totalElements").asLong()).isPositive();
+    }
+
+    @Test
+    @TestDescription("CBOR 본문으로 생성하고, 검사 오류도 CBOR 로 받는다")
+    public void createEvent() throws Exception {
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+        this.mockMvc.perform(post("/api/events")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(EventFixtures.eventDto())))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+
+        EventDto invalid = EventFixtures.eventDto();
+        invalid.setBasePrice(20000);
+        JsonNode errors = read(cborMapper, this.mockMvc.perform(post("/api/events")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(invalid)))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsByteArray());
+        assertThat(errors.path("errors").get(0).path("code").asText()).isEqualTo("wrongPrice");
+        assertThat(errors.path("_links").path("index").isMissingNode()).isFalse();
+    }
+
+    private static JsonNode read(ObjectMapper objectMapper, byte[] content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
@@ -0,0 +1,183 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class EventConditionalRequestTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    @TestDescription("ETag 가 같으면 본문 없이 304")
+    public void getEvent_notModified() throws Exception {
+        Event event = generateEvent();
+
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("version").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isEqualTo("\"0\"");
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @TestDescription("버전이 바뀌면 If-None-Match 에도 새 본문과 새 ETag")
+    public void getEvent_modified() throws Exception {
+        Event event = generateEvent();
+
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Updated"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("name").value("Updated"));
+    }
+
+    @Test
+    @TestDescription("단건의 manager 가 바뀌면 이벤트 버전이 같아도 새 본문과 새 ETag")
+    public void getEvent_managerChanged() throws Exception {
+        Account manager = this.accountRepository.saveAndFlush(Account.builder()
+                .email("manager@email.com")
+                .password("yoojin")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Event event = new EventMapper().toEvent(eventDto("Spring"));
+        event.update();
+        event.setManager(manager);
+        this.eventRepository.saveAndFlush(event);
+
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        manager.setEmail("renamed@email.com");
+        this.accountRepository.flush();
+
+        String renamedETag = this.mockMvc.perform(get("/api/events/{id}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("manager.email").value("renamed@email.com"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(renamedETag).isNotEqualTo(eTag);
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, renamedETag))
+                .andExpect(status().isNotModified());
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Updated"))))
+                .andExpect(status().isPreconditionFailed());
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, renamedETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Updated"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @TestDescription("If-Match 가 현재 버전과 다르면 412 이고 수정하지 않는다")
+    public void updateEvent_preconditionFailed() throws Exception {
+        Event event = generateEvent();
+
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Updated"))))
+                .andExpect(status().isPreconditionFailed());
+
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto("Updated"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    @TestDescription("목록도 내용이 같으면 304")
+    public void getEvents_notModified() throws Exception {
+        generateEvent();
+
+        String eTag = this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get("/api/events").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        generateEvent();
+        this.mockMvc.perform(get("/api/events").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @TestDescription("목록의 manager 가 바뀌면 이벤트 버전이 같아도 새 ETag")
+    public void getEvents_managerChanged() throws Exception {
+        Account manager = this.accountRepository.saveAndFlush(Account.builder()
+                .email("manager@email.com")
+                .password("yoojin")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Event event = new EventMapper().toEvent(eventDto("Spring"));
+        event.update();
+        event.setManager(manager);
+        this.eventRepository.saveAndFlush(event);
+
+        String eTag = this.mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        manager.setEmail("renamed@email.com");
+        this.accountRepository.flush();
+
+        this.mockMvc.perform(get("/api/events").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].manager.email").value("renamed@email.com"));
+    }
+
+    private Event generateEvent() {
+        Event event = new EventMapper().toEvent(eventDto("Spring"));
+        event.update();
+        return this.eventRepository.saveAndFlush(event);
+    }
+
+    private EventDto eventDto(String name) {
+        return EventFixtures.eventDtoBuilder()
+                .name(name)
+                .build();
+    }
+}
@@ -2,11 +2,12 @@ package com.yoojin.restapiwithspring.event;
 
 import com.yoojin.restapiwithspring.BaseControllerTest;
 import com.yoojin.restapiwithspring.common.TestDescription;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 
 import java.time.LocalDateTime;
 import java.util.stream.IntStream;
@@ -17,12 +18,14 @@ import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.li
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-public class EventControllerTest extends BaseControllerTest {
+@WithMockUser
+class EventControllerTest extends BaseControllerTest {
     @Autowired
     EventRepository eventRepository;
 
@@ -30,20 +33,10 @@ public class EventControllerTest extends BaseControllerTest {
     @TestDescription("정상적으로 이벤트 생성하는 테스트")
     public void createEvent() throws Exception {
 
-        EventDto event = EventDto.builder()
-                .name("Spring")
-                .description("REST API Development with Spring")
-                .beginEnrollmentDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .closeEnrollmentDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .beginEventDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .endEventDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .basePrice(100)
-                .maxPrice(200)
-                .limitOfEnrollment(100)
-                .location("강남역")
-                .build();
+        EventDto event = EventFixtures.eventDto();
 
         mockMvc.perform(post("/api/events/")
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaTypes.HAL_JSON)
                         .content(objectMapper.writeValueAsString(event))
@@ -103,6 +96,7 @@ public class EventControllerTest extends BaseControllerTest {
                                 fieldWithPath("free").description("free of new Event"),
                                 fieldWithPath("offline").description("offline of new Event"),
                                 fieldWithPath("eventStatus").description("eventStatus of new Event"),
+                                fieldWithPath("manager").description("manager of new Event, null if not set"),
                                 /**Response field 있지만 무시하고 싶은 값**/
                                 fieldWithPath("_links.*").ignored(),
                                 fieldWithPath("_links.self.*").ignored(),
@@ -116,17 +110,7 @@ public class EventControllerTest extends BaseControllerTest {
 
     @Test
     public void createEvent_bad_request() throws Exception {
-        Event event = Event.builder()
-                .name("Spring")
-                .description("REST API Development with Spring")
-                .beginEnrollmentDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .closeEnrollmentDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .beginEventDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .endEventDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .basePrice(100)
-                .maxPrice(200)
-                .limitOfEnrollment(100)
-                .location("강남역")
+        Event event = EventFixtures.eventBuilder()
                 .free(true)
                 .offline(false)
                 .eventStatus(EventStatus.PUBLISHED)
@@ -134,6 +118,7 @@ public class EventControllerTest extends BaseControllerTest {
 
 
         mockMvc.perform(post("/api/events/")
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaTypes.HAL_JSON)
                         .content(objectMapper.writeValueAsString(event))
@@ -148,6 +133,7 @@ public class EventControllerTest extends BaseControllerTest {
 
 
         mockMvc.perform(post("/api/events/")
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(eventDto))
                 )
@@ -157,21 +143,14 @@ public class EventControllerTest extends BaseControllerTest {
     @Test
     public void createEvent_bad_request_wrong_input() throws Exception {
 
-        EventDto eventDto = EventDto.builder()
-                .name("Spring")
-                .description("REST API Development with Spring")
-                .beginEnrollmentDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .closeEnrollmentDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .beginEventDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
+        EventDto eventDto = EventFixtures.eventDtoBuilder()
                 .endEventDateTime(LocalDateTime.of(2020, 07, 02, 10, 30))
                 .basePrice(10000)
-                .maxPrice(200)
-                .limitOfEnrollment(100)
-                .location("강남역")
                 .build();
 
 
         mockMvc.perform(post("/api/events/")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(eventDto)))
                 .andDo(print())
@@ -229,6 +208,7 @@ public class EventControllerTest extends BaseControllerTest {
         eventDto.setName(eventName);
 
         this.mockMvc.perform(put("/api/events/{eventId}", event.getId())
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(this.objectMapper.writeValueAsString(eventDto)))
                 .andExpect(status().isOk())
@@ -245,6 +225,7 @@ public class EventControllerTest extends BaseControllerTest {
         EventDto eventDto = new EventDto();
 
         this.mockMvc.perform(put("/api/events/{eventId}", event.getId())
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(this.objectMapper.writeValueAsString(eventDto)))
                 .andExpect(status().isBadRequest())
@@ -259,6 +240,7 @@ public class EventControllerTest extends BaseControllerTest {
         eventDto.setMaxPrice(1000);
 
         this.mockMvc.perform(put("/api/events/{eventId}", event.getId())
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(this.objectMapper.writeValueAsString(eventDto)))
                 .andExpect(status().isBadRequest())
@@ -270,10 +252,9 @@ public class EventControllerTest extends BaseControllerTest {
     public void updateEvent_404_wrong() throws Exception {
         Event event = this.generateEvent(200);
         EventDto eventDto = this.modelMapper.map(event, EventDto.class);
-        eventDto.setBasePrice(20000);
-        eventDto.setMaxPrice(1000);
 
         this.mockMvc.perform(put("/api/events/22123321")
+                        .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(this.objectMapper.writeValueAsString(eventDto)))
                 .andExpect(status().isNotFound())
@@ -292,21 +273,6 @@ public class EventControllerTest extends BaseControllerTest {
     }
 
     private Event generateEvent(int index) {
-        Event event = Event.builder()
-                .name("Spring")
-                .description("REST API Development with Spring")
-                .beginEnrollmentDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .closeEnrollmentDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .beginEventDateTime(LocalDateTime.of(2020, 06, 03, 10, 30))
-                .endEventDateTime(LocalDateTime.of(2020, 07, 03, 10, 30))
-                .basePrice(100)
-                .maxPrice(200)
-                .limitOfEnrollment(100)
-                .location("강남역")
-                .free(false)
-                .offline(true)
-                .eventStatus(EventStatus.DRAFT)
-                .build();
-        return this.eventRepository.save(event);
+        return this.eventRepository.save(EventFixtures.eventBuilder().build());
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCursorTest {
+
+    @Test
+    public void encodeAndDecode() {
+        Event event = Event.builder()
+                .id(42)
+                .name("Spring|REST")
+                .beginEventDateTime(LocalDateTime.of(2020, 6, 3, 10, 30))
+                .build();
+
+        EventCursor cursor = EventCursor.decode(EventCursor.of(EventSummary.of(event), Sort.Order.desc("name")).encode());
+
+        assertThat(cursor.getProperty()).isEqualTo("name");
+        assertThat(cursor.getId()).isEqualTo(42);
+        assertThat(cursor.getValue(String.class)).isEqualTo("Spring|REST");
+    }
+
+    @Test
+    public void dateTimeValue() {
+        LocalDateTime dateTime = LocalDateTime.of(2020, 6, 3, 10, 30);
+        Event event = Event.builder().id(1).beginEventDateTime(dateTime).build();
+
+        EventCursor cursor = EventCursor.decode(EventCursor.of(EventSummary.of(event), Sort.Order.asc("beginEventDateTime")).encode());
+
+        assertThat(cursor.getValue(LocalDateTime.class)).isEqualTo(dateTime);
+    }
+
+    @Test
+    public void malformedCursor() {
+        assertThatThrownBy(() -> EventCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void unsupportedSortProperty() {
+        assertThatThrownBy(() -> EventCursor.keysetOrder(Sort.by("description")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
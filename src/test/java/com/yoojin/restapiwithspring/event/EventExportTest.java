@@ -0,0 +1,62 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class EventExportTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    @TestDescription("모든 이벤트를 한 줄에 하나씩 id 순으로 내보낸다")
+    public void exportEvents() throws Exception {
+        Account manager = this.accountRepository.save(Account.builder()
+                .email("export@email.com").password("secret").roles(Set.of(AccountRole.USER)).build());
+        long existing = this.eventRepository.count();
+        IntStream.range(0, 3).forEach(i -> generateEvent(i, manager));
+
+        String body = this.mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize((int) existing + 3);
+        int previousId = 0;
+        for (String line : lines) {
+            JsonNode event = this.objectMapper.readTree(line);
+            assertThat(event.get("id").asInt()).isGreaterThan(previousId);
+            assertThat(event.has("manager")).isFalse();
+            previousId = event.get("id").asInt();
+        }
+        assertThat(lines[lines.length - 1]).contains("\"location\":\"강남역\"");
+    }
+
+    private Event generateEvent(int index, Account manager) {
+        return this.eventRepository.save(EventFixtures.eventBuilder()
+                .name("Spring " + index)
+                .manager(manager)
+                .build());
+    }
+}
@@ -0,0 +1,152 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.StatementRecorder;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 SQL 에 들어간 컬럼과 조인은 StatementRecorder 로 확인한다.
+ */
+@WithMockUser
+@TestPropertySource(properties = StatementRecorder.PROPERTY)
+class EventFieldsTest extends BaseControllerTest {
+    private static final String MOBILE_FIELDS = "name,eventStatus,beginEventDateTime";
+
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    Account manager;
+    Event event;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = this.accountRepository.save(Account.builder()
+                .email("fields@email.com").password("secret").roles(Set.of(AccountRole.USER)).build());
+        for (int i = 0; i < 3; i++) {
+            this.event = this.eventRepository.save(EventFixtures.eventBuilder()
+                    .name("Spring " + i)
+                    .eventStatus(EventStatus.PUBLISHED)
+                    .manager(this.manager)
+                    .build());
+        }
+        this.entityManager.flush();
+        StatementRecorder.clear();
+    }
+
+    @Test
+    @TestDescription("목록은 고른 필드의 컬럼만 읽고, 고른 필드와 _links 만 내보낸다")
+    public void getEvents() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                        .param("fields", MOBILE_FIELDS)
+                        .param("sort", "id,DESC")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(this.event.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("Spring 2"))
+                .andExpect(jsonPath("_embedded.eventList[0].eventStatus").value("PUBLISHED"))
+                .andExpect(jsonPath("_embedded.eventList[0].beginEventDateTime").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].description").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0].manager").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0].free").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("page.totalElements").value(3))
+                .andDo(document("query-events-fields",
+                        requestParameters(
+                                parameterWithName("fields").description("comma separated event fields to include, id is always included"),
+                                parameterWithName("sort").description("sort order"),
+                                parameterWithName("size").description("page size")
+                        )));
+
+        List<String> selects = StatementRecorder.startingWith("select");
+        assertThat(selects).hasSize(2);
+        assertThat(selects.get(0))
+                .contains("name", "event_status", "begin_event_date_time")
+                .doesNotContain("description", "location", "account");
+    }
+
+    @Test
+    @TestDescription("manager 를 고르면 그때만 account 를 조인한다")
+    public void getEvents_manager() throws Exception {
+        this.mockMvc.perform(get("/api/events").param("fields", "manager"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].manager.email").value("fields@email.com"))
+                .andExpect(jsonPath("_embedded.eventList[0].name").doesNotExist());
+
+        assertThat(StatementRecorder.startingWith("select").get(0)).contains("account");
+    }
+
+    @Test
+    @TestDescription("keyset 모드에서도 고른 필드만 내보내고, 정렬 키를 고르지 않아도 다음 커서를 만든다")
+    public void getEvents_after() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                        .param("fields", "eventStatus")
+                        .param("after", "")
+                        .param("sort", "name")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].eventStatus").value("PUBLISHED"))
+                .andExpect(jsonPath("_embedded.eventList[0].name").doesNotExist())
+                .andExpect(jsonPath("_links.next").exists());
+    }
+
+    @Test
+    @TestDescription("단건 조회도 고른 필드와 _links 만 내보낸다")
+    public void getEvent() throws Exception {
+        this.mockMvc.perform(get("/api/events/{id}", this.event.getId()).param("fields", "name, limitOfEnrollment"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(this.event.getId()))
+                .andExpect(jsonPath("name").value("Spring 2"))
+                .andExpect(jsonPath("limitOfEnrollment").value(100))
+                .andExpect(jsonPath("description").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @TestDescription("모르는 필드는 400 wrongFields")
+    public void wrongFields() throws Exception {
+        this.mockMvc.perform(get("/api/events").param("fields", "name,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value(EventFields.WRONG_FIELDS));
+        this.mockMvc.perform(get("/api/events/{id}", this.event.getId()).param("fields", "version"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value(EventFields.WRONG_FIELDS));
+    }
+
+    @Test
+    @TestDescription("같은 필드 목록은 순서와 공백이 달라도 같은 순서로 쓰고, 한 번 파싱한 값은 다시 쓴다")
+    public void parse() {
+        EventFields fields = EventFields.parse("name,id,eventStatus");
+
+        assertThat(fields.getNames()).containsExactly("id", "eventStatus", "name");
+        assertThat(EventFields.parse(" eventStatus , name").getNames()).isEqualTo(fields.getNames());
+        assertThat(EventFields.parse("name,id,eventStatus")).isSameAs(fields);
+        assertThatIllegalArgumentException().isThrownBy(() -> EventFields.parse("name,version"));
+    }
+}
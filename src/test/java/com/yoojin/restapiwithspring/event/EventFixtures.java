@@ -0,0 +1,82 @@
+package com.yoojin.restapiwithspring.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트와 벤치마크가 함께 쓰는 이벤트 입력 데이터. 값을 바꿔야 하면 builder 를 받아 덮어쓴다.
+ */
+public final class EventFixtures {
+    private EventFixtures() {
+    }
+
+    public static EventDto.EventDtoBuilder eventDtoBuilder() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 3, 10, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 7, 3, 10, 30))
+                .beginEventDateTime(LocalDateTime.of(2020, 6, 3, 10, 30))
+                .endEventDateTime(LocalDateTime.of(2020, 7, 3, 10, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역");
+    }
+
+    public static EventDto eventDto() {
+        return eventDtoBuilder().build();
+    }
+
+    /**
+     * 저장용이라 id 를 비워 둔다.
+     */
+    public static Event.EventBuilder eventBuilder() {
+        return Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 3, 10, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 7, 3, 10, 30))
+                .beginEventDateTime(LocalDateTime.of(2020, 6, 3, 10, 30))
+                .endEventDateTime(LocalDateTime.of(2020, 7, 3, 10, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .free(false)
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT);
+    }
+
+    /**
+     * 지금 참가 신청을 받는 이벤트. 신청 기간이 어제부터 내일까지다.
+     */
+    public static Event.EventBuilder enrollingEventBuilder(int limitOfEnrollment) {
+        LocalDateTime now = LocalDateTime.now();
+        return eventBuilder()
+                .beginEnrollmentDateTime(now.minusDays(1))
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .beginEventDateTime(now.plusDays(2))
+                .endEventDateTime(now.plusDays(3))
+                .limitOfEnrollment(limitOfEnrollment)
+                .eventStatus(EventStatus.BEGAN_ENROLLMENT);
+    }
+
+    public static Event event(int index) {
+        return eventBuilder()
+                .id(index)
+                .name(String.format("event %06d", index))
+                .build();
+    }
+
+    public static List<Event> newEvents(int from, int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            events.add(eventBuilder()
+                    .name(String.format("event %06d", i))
+                    .build());
+        }
+        return events;
+    }
+}
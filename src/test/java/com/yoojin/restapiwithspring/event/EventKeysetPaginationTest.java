@@ -0,0 +1,82 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class EventKeysetPaginationTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @Test
+    @TestDescription("이름이 겹치는 25개의 이벤트를 커서를 따라가며 10개씩 빠짐없이 조회")
+    public void followNextLinks() throws Exception {
+        IntStream.range(0, 25).forEach(this::generateEvent);
+
+        List<String> names = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        String next = "/api/events?after=&size=10&sort=name,DESC";
+        int pages = 0;
+        while (next != null) {
+            String body = this.mockMvc.perform(get(next))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("page").doesNotExist())
+                    .andExpect(jsonPath("_links.self").exists())
+                    .andExpect(jsonPath("_links.profile").exists())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode json = this.objectMapper.readTree(body);
+            json.path("_embedded").path("eventList").forEach(e -> {
+                names.add(e.get("name").asText());
+                ids.add(e.get("id").asInt());
+            });
+            JsonNode nextLink = json.path("_links").path("next").path("href");
+            next = nextLink.isMissingNode() ? null : nextLink.asText();
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+        assertThat(names).isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    @TestDescription("count=true 일 때만 전체 개수를 포함")
+    public void countOnRequest() throws Exception {
+        IntStream.range(0, 15).forEach(this::generateEvent);
+
+        this.mockMvc.perform(get("/api/events")
+                        .param("after", "")
+                        .param("size", "10")
+                        .param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(15))
+                .andExpect(jsonPath("_links.next").exists());
+    }
+
+    @Test
+    @TestDescription("잘못된 커서는 400")
+    public void wrongCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events").param("after", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongCursor"));
+    }
+
+    private Event generateEvent(int index) {
+        return this.eventRepository.save(EventFixtures.eventBuilder()
+                .name("event " + (char) ('a' + index % 5))
+                .build());
+    }
+}
@@ -0,0 +1,45 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class EventListTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    @TestDescription("목록의 manager 는 id 와 email 만 담는다")
+    public void managerSummary() throws Exception {
+        Account manager = this.accountRepository.save(Account.builder()
+                .email("list@email.com").password("secret").roles(Set.of(AccountRole.USER)).build());
+        Event event = this.eventRepository.save(EventFixtures.eventBuilder()
+                .manager(manager)
+                .build());
+
+        this.mockMvc.perform(get("/api/events").param("sort", "id,DESC").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(event.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("Spring"))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").value(manager.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.email").value("list@email.com"))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.password").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0].manager.roles").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("page.totalElements").exists());
+    }
+}
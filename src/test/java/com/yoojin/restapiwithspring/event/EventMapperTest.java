@@ -0,0 +1,51 @@
+package com.yoojin.restapiwithspring.event;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventMapperTest {
+    private final EventMapper eventMapper = new EventMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    public void toEvent_sameAsModelMapper() {
+        EventDto eventDto = EventFixtures.eventDto();
+
+        Event mapped = this.eventMapper.toEvent(eventDto);
+
+        assertThat(mapped).usingRecursiveComparison()
+                .isEqualTo(this.modelMapper.map(eventDto, Event.class));
+        assertThat(mapped.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    public void merge_sameAsModelMapper() {
+        EventDto eventDto = EventFixtures.eventDto();
+        eventDto.setLocation(null);
+        Event expected = existingEvent();
+        Event merged = existingEvent();
+
+        this.modelMapper.map(eventDto, expected);
+        this.eventMapper.merge(eventDto, merged);
+
+        assertThat(merged).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(merged.getId()).isEqualTo(10);
+        assertThat(merged.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+    }
+
+    private Event existingEvent() {
+        return Event.builder()
+                .id(10)
+                .name("Old")
+                .description("Old description")
+                .location("판교역")
+                .basePrice(0)
+                .maxPrice(0)
+                .free(true)
+                .offline(true)
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+    }
+}
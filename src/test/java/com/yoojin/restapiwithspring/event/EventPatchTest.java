@@ -0,0 +1,157 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.common.JsonMergePatch;
+import com.yoojin.restapiwithspring.common.StatementRecorder;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * UPDATE 문에 들어가는 컬럼을 보려고 실행하는 SQL 을 StatementRecorder 에 모은다.
+ */
+@WithMockUser
+@TestPropertySource(properties = StatementRecorder.PROPERTY)
+class EventPatchTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    Event event;
+
+    @BeforeEach
+    public void setUp() {
+        this.event = this.eventRepository.saveAndFlush(EventFixtures.eventBuilder().build());
+        StatementRecorder.clear();
+    }
+
+    @Test
+    @TestDescription("보낸 필드만 바꾸고 UPDATE 에는 바뀐 컬럼과 version 만 들어간다")
+    public void patchEvent() throws Exception {
+        patchEvent(this.event.getId(), "{\"limitOfEnrollment\": 50}")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("limitOfEnrollment").value(50))
+                .andExpect(jsonPath("name").value("Spring"))
+                .andExpect(jsonPath("location").value("강남역"))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("patch-event"));
+
+        List<String> updates = StatementRecorder.startingWith("update event ");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0))
+                .contains("limit_of_enrollment=?", "version=?")
+                .doesNotContain("name=?", "description=?", "location=?", "base_price=?");
+    }
+
+    @Test
+    @TestDescription("null 은 값을 지우고, 지운 결과도 같은 규칙으로 검사한다")
+    public void patchEvent_null() throws Exception {
+        patchEvent(this.event.getId(), "{\"location\": null}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("location").value(nullValue()));
+
+        patchEvent(this.event.getId(), "{\"description\": null}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].filed").value("description"));
+    }
+
+    @Test
+    @TestDescription("패치를 적용한 결과가 규칙에 맞지 않으면 400 이고 저장하지 않는다")
+    public void patchEvent_invalid() throws Exception {
+        patchEvent(this.event.getId(), "{\"basePrice\": 20000}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPrice"));
+
+        assertThat(StatementRecorder.startingWith("update event ")).isEmpty();
+    }
+
+    @Test
+    @TestDescription("DRAFT 를 PUBLISHED 로 공개하면 UPDATE 에는 event_status 와 version 만 들어간다")
+    public void patchEvent_publish() throws Exception {
+        patchEvent(this.event.getId(), "{\"eventStatus\": \"PUBLISHED\"}")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("eventStatus").value(EventStatus.PUBLISHED.name()));
+
+        List<String> updates = StatementRecorder.startingWith("update event ");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0).substring(0, updates.get(0).indexOf(" where ")))
+                .isEqualTo("update event set event_status=?, version=?");
+        assertThat(this.eventRepository.findById(this.event.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.PUBLISHED);
+    }
+
+    @Test
+    @TestDescription("허락하지 않은 상태 전이는 wrongEventStatus 로 400 이고 저장하지 않는다")
+    public void patchEvent_wrongEventStatus() throws Exception {
+        patchEvent(this.event.getId(), "{\"eventStatus\": \"STARTED\", \"location\": \"판교역\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].filed").value("eventStatus"))
+                .andExpect(jsonPath("errors[0].code").value("wrongEventStatus"));
+        patchEvent(this.event.getId(), "{\"eventStatus\": \"PUBLISHED\"}")
+                .andExpect(status().isOk());
+        patchEvent(this.event.getId(), "{\"eventStatus\": \"DRAFT\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongEventStatus"));
+
+        assertThat(StatementRecorder.startingWith("update event ")).hasSize(1);
+    }
+
+    @Test
+    @TestDescription("EventDto 에 없는 필드, 맞지 않는 타입, 객체가 아닌 패치는 wrongPatch")
+    public void patchEvent_wrongPatch() throws Exception {
+        patchEvent(this.event.getId(), "{\"id\": 7}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPatch"));
+        patchEvent(this.event.getId(), "{\"eventStatus\": \"OPEN\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPatch"));
+        patchEvent(this.event.getId(), "{\"eventStatus\": null}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPatch"));
+        patchEvent(this.event.getId(), "{\"basePrice\": \"free\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPatch"));
+        patchEvent(this.event.getId(), "[]")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPatch"));
+    }
+
+    @Test
+    @TestDescription("없는 이벤트는 404, If-Match 가 다르면 412")
+    public void patchEvent_notFound_preconditionFailed() throws Exception {
+        patchEvent(22123321, "{\"limitOfEnrollment\": 50}")
+                .andExpect(status().isNotFound());
+
+        this.mockMvc.perform(patch("/api/events/{id}", this.event.getId())
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+                        .content("{\"limitOfEnrollment\": 50}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private ResultActions patchEvent(Integer id, String patch) throws Exception {
+        return this.mockMvc.perform(patch("/api/events/{id}", id)
+                .with(csrf())
+                .contentType(JsonMergePatch.MEDIA_TYPE_VALUE)
+                .content(patch));
+    }
+}
@@ -0,0 +1,132 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WithMockUser
+class EventSearchTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @BeforeEach
+    public void setUp() {
+        this.eventRepository.deleteAll();
+        saveEvent("Spring REST", "REST API Development with Spring", EventStatus.PUBLISHED, 0, "강남역",
+                LocalDateTime.of(2020, 6, 1, 10, 0), LocalDateTime.of(2020, 6, 30, 10, 0));
+        saveEvent("JPA", "Java Persistence with SPRING Data", EventStatus.DRAFT, 300, null,
+                LocalDateTime.of(2020, 7, 1, 10, 0), LocalDateTime.of(2020, 7, 31, 10, 0));
+        saveEvent("Kotlin", "100% coroutines", EventStatus.PUBLISHED, 100, "판교역",
+                LocalDateTime.of(2020, 8, 1, 10, 0), LocalDateTime.of(2020, 8, 31, 10, 0));
+    }
+
+    @Test
+    @TestDescription("name 과 description 을 대소문자 구분 없이 검색한다")
+    public void searchByText() throws Exception {
+        this.mockMvc.perform(get("/api/events/search")
+                        .param("q", "spring")
+                        .param("sort", "name,ASC"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("page.totalElements").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("JPA"))
+                .andExpect(jsonPath("_embedded.eventList[1].name").value("Spring REST"))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("search-events",
+                        requestParameters(
+                                parameterWithName("q").description("name 또는 description 에 포함된 문자열"),
+                                parameterWithName("sort").description("정렬 조건")
+                        )));
+    }
+
+    @Test
+    @TestDescription("like 특수문자는 글자 그대로 검색한다")
+    public void searchByText_escapesWildcards() throws Exception {
+        this.mockMvc.perform(get("/api/events/search").param("q", "100%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("Kotlin"));
+
+        this.mockMvc.perform(get("/api/events/search").param("q", "_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(0));
+    }
+
+    @Test
+    @TestDescription("상태, 오프라인, 무료, 가격, 모집 기간 조건을 함께 적용한다")
+    public void searchByFilters() throws Exception {
+        this.mockMvc.perform(get("/api/events/search").param("eventStatus", "PUBLISHED").param("offline", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(2));
+
+        this.mockMvc.perform(get("/api/events/search").param("free", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("Spring REST"));
+
+        this.mockMvc.perform(get("/api/events/search").param("minPrice", "100").param("maxPrice", "300"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(2));
+
+        this.mockMvc.perform(get("/api/events/search")
+                        .param("enrollmentFrom", "2020-06-15T00:00:00")
+                        .param("enrollmentTo", "2020-07-10T00:00:00")
+                        .param("eventStatus", "DRAFT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("JPA"));
+    }
+
+    @Test
+    @TestDescription("잘못된 범위, 값, 정렬 속성은 400")
+    public void searchEvents_badRequest() throws Exception {
+        this.mockMvc.perform(get("/api/events/search").param("minPrice", "300").param("maxPrice", "100"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongPrice"));
+
+        this.mockMvc.perform(get("/api/events/search")
+                        .param("enrollmentFrom", "2020-07-10T00:00:00")
+                        .param("enrollmentTo", "2020-06-15T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongEnrollmentPeriod"));
+
+        this.mockMvc.perform(get("/api/events/search").param("eventStatus", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+
+        this.mockMvc.perform(get("/api/events/search").param("sort", "manager.password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongSort"));
+    }
+
+    private void saveEvent(String name, String description, EventStatus status, int basePrice, String location,
+                           LocalDateTime beginEnrollment, LocalDateTime closeEnrollment) {
+        Event event = Event.builder()
+                .name(name)
+                .description(description)
+                .beginEnrollmentDateTime(beginEnrollment)
+                .closeEnrollmentDateTime(closeEnrollment)
+                .beginEventDateTime(closeEnrollment.plusDays(1))
+                .endEventDateTime(closeEnrollment.plusDays(2))
+                .basePrice(basePrice)
+                .maxPrice(basePrice)
+                .location(location)
+                .eventStatus(status)
+                .build();
+        event.update();
+        this.eventRepository.save(event);
+    }
+}
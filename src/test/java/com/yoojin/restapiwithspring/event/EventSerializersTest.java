@@ -0,0 +1,130 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSerializersTest extends BaseControllerTest {
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    private ObjectMapper halMapper;
+    private ObjectMapper beanMapper;
+
+    @BeforeEach
+    public void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/events")));
+        this.halMapper = this.handlerAdapter.getMessageConverters().stream()
+                .filter(converter -> converter.canWrite(EventResource.class, MediaTypes.HAL_JSON))
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst().orElseThrow();
+        // 등록된 직렬화기를 모두 빼고 LocalDateTime 만 되돌려서 EventSerializers 가 없던 때처럼 쓴다.
+        this.beanMapper = this.halMapper.copy().setSerializerFactory(BeanSerializerFactory.instance
+                .withAdditionalSerializers(new SimpleSerializers(List.of(LocalDateTimeSerializer.INSTANCE))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @TestDescription("이벤트 하나를 BeanSerializer 와 같은 바이트로 쓴다")
+    public void eventResource_sameAsBeanSerializer() throws Exception {
+        assertThat(this.halMapper.getSerializerProviderInstance().findValueSerializer(Event.class))
+                .isInstanceOf(EventSerializers.EventSerializer.class);
+        assertThat(this.halMapper.getSerializerProviderInstance().findValueSerializer(EventSummary.class))
+                .isInstanceOf(EventSerializers.EventSummarySerializer.class);
+
+        for (Event event : List.of(event(1, manager()), event(2, null), emptyEvent())) {
+            EventResource resource = new EventResource(event);
+
+            assertThat(new String(this.halMapper.writeValueAsBytes(resource)))
+                    .isEqualTo(new String(this.beanMapper.writeValueAsBytes(resource)));
+        }
+    }
+
+    @Test
+    @TestDescription("이벤트 목록 페이지를 BeanSerializer 와 같은 바이트로 쓴다")
+    public void eventSummaryPage_sameAsBeanSerializer() throws Exception {
+        PagedResourcesAssembler<EventSummary> assembler = new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+        List<EventSummary> events = List.of(EventSummary.of(event(1, manager())), EventSummary.of(event(2, null)),
+                EventSummary.of(emptyEvent()));
+        PagedModel<EntityModel<EventSummary>> page = assembler.toModel(new PageImpl<>(events, PageRequest.of(1, 3), 10),
+                EventSummaryResource::new);
+
+        byte[] bytes = this.halMapper.writeValueAsBytes(page);
+
+        assertThat(bytes).isEqualTo(this.beanMapper.writeValueAsBytes(page));
+        assertThat(new String(bytes)).contains("\"beginEnrollmentDateTime\":\"2020-06-03T10:30:00\"",
+                "\"closeEnrollmentDateTime\":\"2020-07-03T10:30:00.5\"", "\"beginEventDateTime\":\"2020-06-04T10:30:00.000000123\"");
+    }
+
+    @Test
+    @TestDescription("내보내기는 manager 를 빼고 쓴다")
+    public void withoutManager() throws Exception {
+        Event event = event(1, manager());
+        ObjectMapper exportMapper = this.halMapper.copy()
+                .registerModule(new SimpleModule().addSerializer(Event.class, EventSerializers.EventSerializer.withoutManager()));
+
+        assertThat(exportMapper.writeValueAsString(event))
+                .isEqualTo(this.beanMapper.writeValueAsString(event)
+                        .replace(",\"manager\":{\"id\":7,\"email\":\"manager@email.com\"}", ""));
+    }
+
+    private static Account manager() {
+        return Account.builder().id(7).email("manager@email.com").password("secret").roles(Set.of()).build();
+    }
+
+    private static Event event(int id, Account manager) {
+        return Event.builder()
+                .id(id)
+                .version(3L)
+                .name("Spring \"" + id + "\"")
+                .description("REST API Development with Spring\n")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 6, 3, 10, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 7, 3, 10, 30, 0, 500_000_000))
+                .beginEventDateTime(LocalDateTime.of(2020, 6, 4, 10, 30, 0, 123))
+                .endEventDateTime(LocalDateTime.of(2020, 7, 4, 10, 30, 59))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .free(false)
+                .offline(true)
+                .eventStatus(EventStatus.PUBLISHED)
+                .manager(manager)
+                .build();
+    }
+
+    private static Event emptyEvent() {
+        return Event.builder().id(3).build();
+    }
+}
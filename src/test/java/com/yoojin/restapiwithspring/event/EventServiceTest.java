@@ -0,0 +1,74 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventServiceTest {
+    @Autowired
+    EventService eventService;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    CacheManager cacheManager;
+
+    @AfterEach
+    public void tearDown() {
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("두 번째 조회는 캐시에서 같은 인스턴스를 돌려준다")
+    public void getEvent_cached() {
+        Event event = this.eventService.saveEvent(event("Spring"));
+        CacheStats before = stats();
+
+        Event first = this.eventService.getEvent(event.getId()).orElseThrow();
+        Event second = this.eventService.getEvent(event.getId()).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        CacheStats after = stats().minus(before);
+        assertThat(after.missCount()).isEqualTo(1);
+        assertThat(after.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("저장하면 캐시가 비워져 새 값을 읽는다")
+    public void saveEvent_evicts() {
+        Event event = this.eventService.saveEvent(event("Spring"));
+        this.eventService.getEvent(event.getId());
+
+        Event existing = this.eventRepository.findById(event.getId()).orElseThrow();
+        existing.setName("Updated");
+        this.eventService.saveEvent(existing);
+
+        assertThat(this.eventService.getEvent(event.getId()).orElseThrow().getName()).isEqualTo("Updated");
+    }
+
+    @Test
+    @TestDescription("없는 이벤트는 캐시하지 않는다")
+    public void getEvent_missingNotCached() {
+        assertThat(this.eventService.getEvent(3999999)).isEmpty();
+        assertThat(this.cacheManager.getCache(EventService.EVENTS_CACHE).get(3999999)).isNull();
+    }
+
+    private CacheStats stats() {
+        return ((CaffeineCache) this.cacheManager.getCache(EventService.EVENTS_CACHE)).getNativeCache().stats();
+    }
+
+    private Event event(String name) {
+        return EventFixtures.eventBuilder()
+                .name(name)
+                .build();
+    }
+}
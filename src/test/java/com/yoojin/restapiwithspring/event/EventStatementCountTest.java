@@ -0,0 +1,171 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.account.AccountService;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트마다 실행하는 SQL 문 수를 고정한다. 캐시가 결과를 가리지 않도록 no-cache 프로필로 실행한다.
+ */
+@WithMockUser
+@ActiveProfiles("no-cache")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventStatementCountTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    AccountService accountService;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    Account manager;
+    Event event;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = this.accountRepository.save(Account.builder()
+                .email("statements@email.com").password("secret")
+                .roles(Set.of(AccountRole.USER, AccountRole.ADMIN)).build());
+        for (int i = 0; i < 3; i++) {
+            this.event = this.eventRepository.save(EventFixtures.eventBuilder()
+                    .name("Spring " + i)
+                    .manager(this.manager)
+                    .build());
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    @TestDescription("이벤트 한 건 조회는 manager 를 조인한 select 하나")
+    public void getEvent() throws Exception {
+        this.mockMvc.perform(get("/api/events/{id}", this.event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("manager.email").value("statements@email.com"))
+                .andExpect(jsonPath("manager.roles").doesNotExist());
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("ETag 가 같으면 버전과 manager 만 조회하고 304")
+    public void getEvent_notModified() throws Exception {
+        String eTag = EventETag.of(0L, this.manager.getId(), this.manager.getEmail());
+        this.mockMvc.perform(get("/api/events/{id}", this.event.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("목록 조회는 프로젝션 select 와 count 두 개")
+    public void getEvents() throws Exception {
+        this.mockMvc.perform(get("/api/events").param("size", "2"))
+                .andExpect(status().isOk());
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("검색은 목록과 같이 select 와 count 두 개, 첫 페이지가 다 차지 않으면 select 하나")
+    public void searchEvents() throws Exception {
+        this.mockMvc.perform(get("/api/events/search").param("q", "spring").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(3));
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/api/events/search").param("q", "spring 1").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1));
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("수정은 select 하나와 update 하나")
+    public void updateEvent() throws Exception {
+        EventDto eventDto = EventFixtures.eventDtoBuilder()
+                .name("Updated")
+                .build();
+
+        this.mockMvc.perform(put("/api/events/{id}", this.event.getId())
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+        this.entityManager.flush();
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("잘못된 본문의 수정은 DB 를 읽지 않고 400")
+    public void updateEvent_invalid() throws Exception {
+        EventDto eventDto = EventFixtures.eventDtoBuilder()
+                .name("Updated")
+                .endEventDateTime(LocalDateTime.of(2020, 06, 01, 10, 30))
+                .basePrice(20000)
+                .build();
+
+        this.mockMvc.perform(put("/api/events/{id}", this.event.getId())
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[*].filed").value(hasItem("endEventDateTime")))
+                .andExpect(jsonPath("errors[*].code").value(hasItem("wrongPrice")));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("내보내기는 event 테이블만 읽는다")
+    public void exportEvents() throws Exception {
+        this.mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk());
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("사용자 조회는 roles 를 조인한 select 하나")
+    public void loadUserByUsername() {
+        assertThat(this.accountService.loadUserByUsername("statements@email.com").getAuthorities()).hasSize(2);
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class EventStatusSchedulerTest {
+    private static final LocalDateTime BEGIN_ENROLLMENT = LocalDateTime.of(2020, 6, 1, 10, 0);
+    private static final LocalDateTime CLOSE_ENROLLMENT = LocalDateTime.of(2020, 6, 10, 10, 0);
+    private static final LocalDateTime BEGIN_EVENT = LocalDateTime.of(2020, 6, 20, 10, 0);
+    private static final LocalDateTime END_EVENT = LocalDateTime.of(2020, 6, 21, 10, 0);
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+    @Autowired
+    EventStatusProperties eventStatusProperties;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    EventService eventService;
+    @Autowired
+    CacheManager cacheManager;
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        this.eventRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.eventStatusProperties.setBatchSize(10_000);
+        this.cacheManager.getCache(EventService.EVENTS_CACHE).clear();
+    }
+
+    @Test
+    @TestDescription("시각이 지날 때마다 다음 단계로 옮기고 version 을 올린다")
+    public void advanceStepByStep() {
+        Integer id = saveEvent(EventStatus.PUBLISHED);
+
+        assertThat(advance(BEGIN_ENROLLMENT.minusMinutes(1))).isZero();
+        assertThat(advance(BEGIN_ENROLLMENT)).isEqualTo(1);
+        assertThat(statusOf(id)).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(advance(CLOSE_ENROLLMENT)).isEqualTo(1);
+        assertThat(statusOf(id)).isEqualTo(EventStatus.CLOSE_ENROLLMENT);
+        assertThat(advance(BEGIN_EVENT)).isEqualTo(1);
+        assertThat(statusOf(id)).isEqualTo(EventStatus.STARTED);
+        assertThat(advance(END_EVENT)).isEqualTo(1);
+        assertThat(statusOf(id)).isEqualTo(EventStatus.ENDED);
+        assertThat(this.eventRepository.findVersionById(id).map(EventRepository.EventVersion::getVersion)).contains(4L);
+
+        assertThat(advance(END_EVENT.plusDays(1))).isZero();
+    }
+
+    @Test
+    @TestDescription("밀린 단계는 한 번에 마지막 단계로 옮기고 DRAFT 는 그대로 둔다")
+    public void advanceSkipsToLatest() {
+        Integer published = saveEvent(EventStatus.PUBLISHED);
+        Integer draft = saveEvent(EventStatus.DRAFT);
+
+        assertThat(advance(BEGIN_EVENT)).isEqualTo(1);
+
+        assertThat(statusOf(published)).isEqualTo(EventStatus.STARTED);
+        assertThat(this.eventRepository.findVersionById(published).map(EventRepository.EventVersion::getVersion)).contains(1L);
+        assertThat(statusOf(draft)).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    @TestDescription("batch-size 보다 많은 이벤트도 모두 옮긴다")
+    public void advanceInBatches() {
+        for (int i = 0; i < 5; i++) {
+            saveEvent(EventStatus.PUBLISHED);
+        }
+        this.eventStatusProperties.setBatchSize(2);
+
+        assertThat(advance(END_EVENT)).isEqualTo(5);
+        assertThat(this.eventRepository.findAll()).extracting(Event::getEventStatus).containsOnly(EventStatus.ENDED);
+    }
+
+    @Test
+    @TestDescription("상태를 바꾸면 단건 캐시를 비운다")
+    public void advanceEvictsCache() {
+        Integer id = saveEvent(EventStatus.PUBLISHED);
+        assertThat(this.eventService.getEvent(id)).isPresent();
+        assertThat(this.cacheManager.getCache(EventService.EVENTS_CACHE).get(id)).isNotNull();
+
+        advance(BEGIN_ENROLLMENT);
+
+        assertThat(this.cacheManager.getCache(EventService.EVENTS_CACHE).get(id)).isNull();
+        assertThat(this.eventService.getEvent(id).get().getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+    }
+
+    private int advance(LocalDateTime now) {
+        int advanced = this.eventStatusScheduler.advance(now);
+        this.entityManager.clear();
+        return advanced;
+    }
+
+    private EventStatus statusOf(Integer id) {
+        return this.eventRepository.findById(id).get().getEventStatus();
+    }
+
+    private Integer saveEvent(EventStatus status) {
+        Event event = this.eventRepository.saveAndFlush(EventFixtures.eventBuilder()
+                .beginEnrollmentDateTime(BEGIN_ENROLLMENT)
+                .closeEnrollmentDateTime(CLOSE_ENROLLMENT)
+                .beginEventDateTime(BEGIN_EVENT)
+                .endEventDateTime(END_EVENT)
+                .eventStatus(status)
+                .build());
+        return event.getId();
+    }
+}
@@ -0,0 +1,58 @@
+package com.yoojin.restapiwithspring.event;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventValidatorTest {
+    private final EventValidator eventValidator = new EventValidator(
+            new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()));
+
+    @Test
+    @TestDescription("올바른 입력은 오류가 없다")
+    public void valid() {
+        assertThat(validate(EventFixtures.eventDto()).hasErrors()).isFalse();
+    }
+
+    @Test
+    @TestDescription("필드 제약과 가격, 날짜 규칙을 한 번에 모두 검사한다")
+    public void allRulesInOnePass() {
+        EventDto eventDto = EventFixtures.eventDto();
+        eventDto.setName(null);
+        eventDto.setBasePrice(20000);
+        eventDto.setCloseEnrollmentDateTime(LocalDateTime.of(2020, 6, 1, 10, 30));
+
+        Errors errors = validate(eventDto);
+
+        assertThat(errors.getFieldErrors().stream().map(FieldError::getField).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder("name", "closeEnrollmentDateTime");
+        assertThat(errors.getGlobalErrors()).extracting("code").containsExactly("wrongPrice");
+    }
+
+    @Test
+    @TestDescription("이벤트 종료가 다른 날짜보다 앞서면 endEventDateTime 오류")
+    public void endEventDateTime() {
+        EventDto eventDto = EventFixtures.eventDto();
+        eventDto.setEndEventDateTime(LocalDateTime.of(2020, 6, 10, 10, 30));
+
+        Errors errors = validate(eventDto);
+
+        assertThat(errors.getFieldErrorCount("endEventDateTime")).isEqualTo(1);
+        assertThat(errors.getErrorCount()).isEqualTo(1);
+    }
+
+    private Errors validate(EventDto eventDto) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        this.eventValidator.validate(eventDto, errors);
+        return errors;
+    }
+}
@@ -0,0 +1,126 @@
+package com.yoojin.restapiwithspring.global.datasource;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    public void tearDown() {
+        this.routingDataSource.close();
+    }
+
+    @Test
+    @TestDescription("읽기 전용 트랜잭션만 복제본으로, 쓰기와 트랜잭션 밖의 쿼리는 primary 로 보낸다")
+    public void routesReadOnlyTransactions() {
+        HikariDataSource replica = pool("replica", "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", 5000);
+        this.routingDataSource = new ReplicaRoutingDataSource(pool("primary", "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", 5000),
+                replica, Duration.ofSeconds(30));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(this.routingDataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate write = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TransactionTemplate read = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        read.setReadOnly(true);
+        markDatabase(jdbcTemplate, "primary");
+        markDatabase(new JdbcTemplate(replica), "replica");
+
+        assertThat(database(read, jdbcTemplate)).isEqualTo("replica");
+        assertThat(database(write, jdbcTemplate)).isEqualTo("primary");
+        assertThat(database(jdbcTemplate)).isEqualTo("primary");
+
+        ReplicaRoutingDataSource.Statistics statistics = this.routingDataSource.statistics();
+        assertThat(statistics.getPools()).containsOnlyKeys("primary", "replica");
+        assertThat(statistics.getPools().get("replica").getMaximumPoolSize()).isEqualTo(2);
+        assertThat(statistics.getReplicaConnectionCount()).isEqualTo(1);
+        assertThat(statistics.getFallbackCount()).isZero();
+        assertThat(statistics.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    @TestDescription("복제본에 연결하지 못하면 primary 로 읽고, retryInterval 동안은 복제본을 시도하지 않는다")
+    public void fallsBackToPrimary() {
+        HikariDataSource replica = pool("replica", "jdbc:h2:tcp://localhost:1/mem:unreachable", 250);
+        this.routingDataSource = new ReplicaRoutingDataSource(pool("primary", "jdbc:h2:mem:fallback-primary;DB_CLOSE_DELAY=-1", 5000),
+                replica, Duration.ofSeconds(30));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(this.routingDataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate read = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        read.setReadOnly(true);
+        markDatabase(jdbcTemplate, "primary");
+
+        assertThat(database(read, jdbcTemplate)).isEqualTo("primary");
+        // 두 번째 읽기는 복제본의 connectionTimeout(250ms)을 기다리지 않는다.
+        long started = System.nanoTime();
+        assertThat(database(read, jdbcTemplate)).isEqualTo("primary");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(200));
+
+        ReplicaRoutingDataSource.Statistics statistics = this.routingDataSource.statistics();
+        assertThat(statistics.isReplicaAvailable()).isFalse();
+        assertThat(statistics.getFallbackCount()).isEqualTo(2);
+        assertThat(statistics.getSaturationCount()).isZero();
+        assertThat(statistics.getReplicaConnectionCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("복제본 풀이 가득 차면 그 요청만 primary 로 읽고, 복제본을 사용할 수 없다고 표시하지 않는다")
+    public void saturatedReplica() throws Exception {
+        HikariDataSource replica = pool("replica", "jdbc:h2:mem:saturated-replica;DB_CLOSE_DELAY=-1", 250);
+        this.routingDataSource = new ReplicaRoutingDataSource(pool("primary", "jdbc:h2:mem:saturated-primary;DB_CLOSE_DELAY=-1", 5000),
+                replica, Duration.ofSeconds(30));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(this.routingDataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate read = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        read.setReadOnly(true);
+        markDatabase(jdbcTemplate, "primary");
+        markDatabase(new JdbcTemplate(replica), "replica");
+
+        try (Connection first = replica.getConnection(); Connection second = replica.getConnection()) {
+            assertThat(database(read, jdbcTemplate)).isEqualTo("primary");
+            assertThat(this.routingDataSource.statistics().isReplicaAvailable()).isTrue();
+        }
+        assertThat(database(read, jdbcTemplate)).isEqualTo("replica");
+
+        ReplicaRoutingDataSource.Statistics statistics = this.routingDataSource.statistics();
+        assertThat(statistics.isReplicaAvailable()).isTrue();
+        assertThat(statistics.getFallbackCount()).isEqualTo(1);
+        assertThat(statistics.getSaturationCount()).isEqualTo(1);
+        assertThat(statistics.getReplicaConnectionCount()).isEqualTo(1);
+    }
+
+    private static HikariDataSource pool(String name, String url, long connectionTimeout) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    private static void markDatabase(JdbcTemplate jdbcTemplate, String name) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+    }
+
+    private static String database(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate) {
+        return transactionTemplate.execute(status -> database(jdbcTemplate));
+    }
+
+    private static String database(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+}
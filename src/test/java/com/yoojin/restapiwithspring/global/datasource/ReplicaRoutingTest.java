@@ -0,0 +1,141 @@
+package com.yoojin.restapiwithspring.global.datasource;
+
+import com.yoojin.restapiwithspring.account.Account;
+import com.yoojin.restapiwithspring.account.AccountRepository;
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventFixtures;
+import com.yoojin.restapiwithspring.event.EventRepository;
+import com.yoojin.restapiwithspring.event.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * primary 와 복제본 풀이 같은 H2 데이터베이스를 가리키게 해서 지연 없는 복제본처럼 쓴다.
+ * 복제본은 SELECT 만 할 수 있는 RO 계정으로 연결하므로 쓰기가 복제본 커넥션으로 가면 실패한다.
+ * RO 계정은 primary 가 처음 연결할 때 만들고, 그 전에 복제본 풀이 연결하지 않도록 minimum-idle 을 0 으로 둔다.
+ * 테스트 트랜잭션 안에서는 모든 쿼리가 바깥 쓰기 트랜잭션에 참여하므로 @Transactional 을 붙이지 않는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1;"
+                + "INIT=create user if not exists RO password 'ro'\\\\;grant select on schema public to RO",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "replica.url=jdbc:h2:mem:replica-routing",
+        "replica.username=RO",
+        "replica.password=ro",
+        "replica.minimum-idle=0",
+        "replica.maximum-pool-size=3"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = ReplicaRoutingTest.EMAIL)
+class ReplicaRoutingTest {
+    static final String EMAIL = "replica@email.com";
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    EventService eventService;
+    @Autowired
+    ReplicaRoutingDataSource replicaRoutingDataSource;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @TestDescription("목록, 단건, 검색, 내보내기는 복제본에서 읽고 저장과 수정 전 조회는 primary 를 쓴다")
+    public void routesReadsToReplica() throws Exception {
+        ReplicaRoutingDataSource.Statistics before = this.replicaRoutingDataSource.statistics();
+        Event event = this.eventService.saveEvent(EventFixtures.eventBuilder()
+                .name("Replica")
+                .build());
+        ReplicaRoutingDataSource.Statistics saved = this.replicaRoutingDataSource.statistics();
+        assertThat(saved.getPrimaryConnectionCount()).isGreaterThan(before.getPrimaryConnectionCount());
+        assertThat(saved.getReplicaConnectionCount()).isEqualTo(before.getReplicaConnectionCount());
+
+        this.mockMvc.perform(get("/api/events").param("sort", "id,DESC").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(event.getId()));
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/search").param("q", "Replica"))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk());
+
+        ReplicaRoutingDataSource.Statistics read = this.replicaRoutingDataSource.statistics();
+        assertThat(read.getPrimaryConnectionCount()).isEqualTo(saved.getPrimaryConnectionCount());
+        assertThat(read.getReplicaConnectionCount()).isGreaterThanOrEqualTo(saved.getReplicaConnectionCount() + 4);
+        assertThat(read.getFallbackCount()).isZero();
+
+        assertThat(this.eventService.getEventForUpdate(event.getId())).isPresent();
+        assertThat(this.replicaRoutingDataSource.statistics().getReplicaConnectionCount())
+                .isEqualTo(read.getReplicaConnectionCount());
+    }
+
+    @Test
+    @TestDescription("한 요청에서 읽은 다음 쓰면 읽기는 복제본, 쓰기는 primary 커넥션을 쓴다")
+    public void readThenWrite() throws Exception {
+        Account account = this.accountRepository.save(Account.builder()
+                .email(EMAIL)
+                .password("yoojin")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Event event = this.eventRepository.save(EventFixtures.enrollingEventBuilder(10)
+                .name("Replica")
+                .build());
+        try {
+            ReplicaRoutingDataSource.Statistics before = this.replicaRoutingDataSource.statistics();
+            // 캐시에 없는 이벤트를 읽고(복제본) stripe 를 만든 뒤 신청을 저장한다(primary).
+            this.mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                    .andExpect(status().isCreated());
+            // 계정 id 를 읽고(복제본) 신청을 지운다(primary).
+            this.mockMvc.perform(delete("/api/events/{id}/enrollments", event.getId()).with(csrf()))
+                    .andExpect(status().isNoContent());
+
+            ReplicaRoutingDataSource.Statistics after = this.replicaRoutingDataSource.statistics();
+            assertThat(after.getReplicaConnectionCount()).isGreaterThanOrEqualTo(before.getReplicaConnectionCount() + 2);
+            assertThat(after.getPrimaryConnectionCount()).isGreaterThanOrEqualTo(before.getPrimaryConnectionCount() + 2);
+            assertThat(after.getFallbackCount()).isEqualTo(before.getFallbackCount());
+        } finally {
+            this.jdbcTemplate.update("delete from enrollment where event_id = ?", event.getId());
+            this.jdbcTemplate.update("delete from enrollment_stripe where event_id = ?", event.getId());
+            this.eventRepository.deleteById(event.getId());
+            this.accountRepository.delete(account);
+        }
+    }
+
+    @Test
+    @TestDescription("풀마다의 크기와 커넥션 수를 노출한다")
+    public void dataSourceMetrics() throws Exception {
+        this.mockMvc.perform(get("/metrics/datasources"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("pools.primary.maximumPoolSize").value(4))
+                .andExpect(jsonPath("pools.replica.maximumPoolSize").value(3))
+                .andExpect(jsonPath("pools.replica.activeConnections").exists())
+                .andExpect(jsonPath("pools.replica.threadsAwaitingConnection").exists())
+                .andExpect(jsonPath("replicaAvailable").value(true))
+                .andExpect(jsonPath("fallbackCount").exists())
+                .andExpect(jsonPath("saturationCount").exists());
+    }
+}
@@ -0,0 +1,41 @@
+package com.yoojin.restapiwithspring.global.jpa;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import com.yoojin.restapiwithspring.event.Event;
+import com.yoojin.restapiwithspring.event.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.id_generator.event_seq.allocation_size=10")
+@ActiveProfiles("test")
+class PooledLoSequenceGeneratorTest {
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @TestDescription("allocation size 만큼 id 를 받아 쓰고 시퀀스는 그만큼만 증가한다")
+    public void allocatesBlocks() {
+        List<Event> events = IntStream.range(0, 12)
+                .mapToObj(i -> Event.builder().name("event " + i).build())
+                .collect(Collectors.toList());
+
+        List<Integer> ids = this.eventRepository.saveAll(events).stream()
+                .map(Event::getId)
+                .collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyElementsOf(IntStream.rangeClosed(1, 12).boxed().collect(Collectors.toList()));
+        // 1, 11 두 번만 시퀀스를 호출했으므로 다음 값은 21
+        assertThat(this.jdbcTemplate.queryForObject("select next value for event_seq", Integer.class)).isEqualTo(21);
+    }
+}
@@ -0,0 +1,53 @@
+package com.yoojin.restapiwithspring.global.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 10_000).forEach(histogram::record);
+
+        assertThat(histogram.getTotalCount()).isEqualTo(10_000);
+        assertThat(histogram.getMaxValue()).isEqualTo(10_000);
+        assertThat(histogram.getValueAtPercentile(50)).isCloseTo(5_000L, within(5_000L / 64));
+        assertThat(histogram.getValueAtPercentile(99)).isCloseTo(9_900L, within(9_900L / 64));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000);
+    }
+
+    @Test
+    public void bucketsCoverValues() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 1_000, 65_535, 1_000_000, 123_456_789}) {
+            long upper = LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value));
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat(upper - value).isLessThanOrEqualTo(Math.max(0, value / 64));
+        }
+    }
+
+    @Test
+    public void emptyHistogram() {
+        assertThat(new LatencyHistogram().getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void concurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> IntStream.range(0, 10_000).forEach(histogram::record));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(histogram.getTotalCount()).isEqualTo(80_000);
+        assertThat(histogram.getMaxValue()).isEqualTo(9_999);
+    }
+}
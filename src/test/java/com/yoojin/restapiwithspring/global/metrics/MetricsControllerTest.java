@@ -0,0 +1,49 @@
+package com.yoojin.restapiwithspring.global.metrics;
+
+import com.yoojin.restapiwithspring.BaseControllerTest;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser
+class MetricsControllerTest extends BaseControllerTest {
+
+    @Test
+    @TestDescription("컨트롤러와 리포지토리 호출 시간이 따로 집계된다")
+    public void latency() throws Exception {
+        this.mockMvc.perform(get("/api/events/{id}", 3999999))
+                .andExpect(status().isNotFound());
+
+        this.mockMvc.perform(get("/metrics/latency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("CONTROLLER['EventController.getEvent'].count").exists())
+                .andExpect(jsonPath("CONTROLLER['EventController.getEvent'].p99Micros").exists())
+                .andExpect(jsonPath("REPOSITORY['EventRepository.findWithManagerById'].count").exists())
+                .andExpect(jsonPath("CONTROLLER['MetricsController.latency']").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("캐시 통계를 노출한다")
+    public void caches() throws Exception {
+        this.mockMvc.perform(get("/metrics/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("events.hitCount").exists())
+                .andExpect(jsonPath("events.missCount").exists())
+                .andExpect(jsonPath("events.evictionCount").exists());
+    }
+
+    @Test
+    @TestDescription("요청 한도 통계를 노출한다")
+    public void rateLimit() throws Exception {
+        this.mockMvc.perform(get("/metrics/rate-limit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("buckets").exists())
+                .andExpect(jsonPath("inFlight").exists())
+                .andExpect(jsonPath("throttledCount").exists())
+                .andExpect(jsonPath("shedCount").exists());
+    }
+}
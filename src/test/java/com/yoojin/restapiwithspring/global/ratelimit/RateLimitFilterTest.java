@@ -0,0 +1,131 @@
+package com.yoojin.restapiwithspring.global.ratelimit;
+
+import com.yoojin.restapiwithspring.account.AccountRole;
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        this.properties = new RateLimitProperties();
+        this.properties.getDefaultLimit().setRequestsPerSecond(0.001);
+        this.properties.getDefaultLimit().setBurst(1);
+        RateLimitProperties.Limit user = new RateLimitProperties.Limit();
+        user.setRequestsPerSecond(0.001);
+        user.setBurst(2);
+        this.properties.getRoles().put(AccountRole.USER, user);
+        RateLimitProperties.Limit admin = new RateLimitProperties.Limit();
+        admin.setRequestsPerSecond(0.001);
+        admin.setBurst(3);
+        this.properties.getRoles().put(AccountRole.ADMIN, admin);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @TestDescription("계정마다 역할 중 가장 큰 한도를 적용하고, 넘치면 429 와 Retry-After")
+    public void perAccountLimit() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(this.properties);
+
+        assertThat(statuses(filter, "user@email.com", 3, "ROLE_USER")).containsExactly(200, 200, 429);
+        assertThat(statuses(filter, "admin@email.com", 4, "ROLE_USER", "ROLE_ADMIN")).containsExactly(200, 200, 200, 429);
+        assertThat(statuses(filter, "guest@email.com", 2, "ROLE_GUEST")).containsExactly(200, 429);
+
+        MockHttpServletResponse response = perform(filter, "user@email.com", "/api/events", "ROLE_USER");
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(filter.statistics().getBuckets()).isEqualTo(3);
+        assertThat(filter.statistics().getThrottledCount()).isEqualTo(4);
+    }
+
+    @Test
+    @TestDescription("/api/** 가 아니거나 꺼져 있으면 거르지 않는다")
+    public void notFiltered() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(this.properties);
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform(filter, "user@email.com", "/metrics/latency", "ROLE_USER").getStatus()).isEqualTo(200);
+        }
+
+        this.properties.setEnabled(false);
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform(filter, "user@email.com", "/api/events", "ROLE_USER").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @TestDescription("동시 처리 수를 넘는 요청은 기다리지 않고 503")
+    public void shedsLoad() throws Exception {
+        this.properties.setMaxConcurrentRequests(1);
+        RateLimitFilter filter = new RateLimitFilter(this.properties);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        HttpServlet blocking = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                entered.countDown();
+                try {
+                    finish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(),
+                    new MockFilterChain(blocking));
+            return null;
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(filter.statistics().getInFlight()).isEqualTo(1);
+
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(filter.statistics().getInFlight()).isZero();
+        assertThat(filter.statistics().getShedCount()).isEqualTo(1);
+    }
+
+    private int[] statuses(RateLimitFilter filter, String name, int requests, String... roles) throws Exception {
+        int[] statuses = new int[requests];
+        for (int i = 0; i < requests; i++) {
+            statuses[i] = perform(filter, name, "/api/events", roles).getStatus();
+        }
+        return statuses;
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String name, String uri, String... roles) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, "password", roles));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", uri), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,61 @@
+package com.yoojin.restapiwithspring.global.ratelimit;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @TestDescription("burst 만큼 바로 꺼내고, 그 뒤에는 초당 한도만큼 채워진다")
+    public void burstThenRefill() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 10);
+
+        assertThat(bucket.tryAcquire(SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 10)).isPositive();
+
+        assertThat(bucket.tryAcquire(10 * SECOND)).isZero();
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryAcquire(10 * SECOND)).isZero();
+        }
+        assertThat(bucket.tryAcquire(10 * SECOND)).isPositive();
+    }
+
+    @Test
+    @TestDescription("여러 스레드가 동시에 꺼내도 burst 를 넘지 않는다")
+    public void concurrentAcquire() throws Exception {
+        TokenBucket bucket = new TokenBucket(1, 100, 0);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1000; j++) {
+                    if (bucket.tryAcquire(0) == 0) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(acquired.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,52 @@
+package com.yoojin.restapiwithspring.global.scheduling;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLockTest {
+    @Autowired
+    SchedulerLock schedulerLock;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @TestDescription("다른 노드가 잡고 있는 동안에는 잠금을 얻지 못하고, 풀면 얻는다")
+    public void exclusive() {
+        String name = UUID.randomUUID().toString();
+        SchedulerLock otherNode = new SchedulerLock(this.jdbcTemplate);
+
+        assertThat(this.schedulerLock.tryLock(name, Duration.ofMinutes(1))).isTrue();
+        assertThat(otherNode.tryLock(name, Duration.ofMinutes(1))).isFalse();
+
+        otherNode.unlock(name);
+        assertThat(otherNode.tryLock(name, Duration.ofMinutes(1))).isFalse();
+
+        this.schedulerLock.unlock(name);
+        assertThat(otherNode.tryLock(name, Duration.ofMinutes(1))).isTrue();
+        otherNode.unlock(name);
+    }
+
+    @Test
+    @TestDescription("임대 시간이 지난 잠금은 다른 노드가 가져간다")
+    public void expiredLease() {
+        String name = UUID.randomUUID().toString();
+        SchedulerLock otherNode = new SchedulerLock(this.jdbcTemplate);
+
+        assertThat(this.schedulerLock.tryLock(name, Duration.ofMillis(-1))).isTrue();
+
+        assertThat(otherNode.tryLock(name, Duration.ofMinutes(1))).isTrue();
+        assertThat(this.schedulerLock.tryLock(name, Duration.ofMinutes(1))).isFalse();
+        otherNode.unlock(name);
+    }
+}
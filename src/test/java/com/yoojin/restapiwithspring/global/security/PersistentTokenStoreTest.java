@@ -0,0 +1,90 @@
+package com.yoojin.restapiwithspring.global.security;
+
+import com.yoojin.restapiwithspring.common.TestDescription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PersistentTokenStoreTest {
+    @Autowired
+    TokenStore tokenStore;
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    @TestDescription("저장한 토큰은 재시작한 다른 저장소에서도 읽을 수 있다")
+    public void survivesRestart() {
+        OAuth2AccessToken token = accessToken(Duration.ofHours(1));
+        this.tokenStore.storeAccessToken(token, authentication("user@email.com"));
+
+        TokenStore restarted = new PersistentTokenStore(this.dataSource, new TokenStoreProperties());
+
+        assertThat(restarted.readAccessToken(token.getValue())).isEqualTo(token);
+        assertThat(restarted.readAuthentication(token.getValue()).getName()).isEqualTo("user@email.com");
+    }
+
+    @Test
+    @TestDescription("삭제한 토큰은 캐시에서도 사라진다")
+    public void removeAccessToken() {
+        OAuth2AccessToken token = accessToken(Duration.ofHours(1));
+        this.tokenStore.storeAccessToken(token, authentication("remove@email.com"));
+        assertThat(this.tokenStore.readAccessToken(token.getValue())).isNotNull();
+
+        this.tokenStore.removeAccessToken(token);
+
+        assertThat(this.tokenStore.readAccessToken(token.getValue())).isNull();
+        assertThat(this.tokenStore.readAuthentication(token.getValue())).isNull();
+    }
+
+    @Test
+    @TestDescription("만료된 토큰만 주기 작업으로 지워진다")
+    public void sweepExpiredTokens() {
+        OAuth2AccessToken expired = accessToken(Duration.ofHours(-1));
+        OAuth2AccessToken valid = accessToken(Duration.ofHours(1));
+        this.tokenStore.storeAccessToken(expired, authentication("expired@email.com"));
+        this.tokenStore.storeAccessToken(valid, authentication("valid@email.com"));
+
+        ((PersistentTokenStore) this.tokenStore).sweepExpiredTokens();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from oauth_access_token where user_name = ?", Integer.class, "expired@email.com")).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from oauth_access_token where user_name = ?", Integer.class, "valid@email.com")).isOne();
+    }
+
+    private OAuth2AccessToken accessToken(Duration expiresIn) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+        token.setExpiration(new Date(System.currentTimeMillis() + expiresIn.toMillis()));
+        token.setScope(Set.of("read"));
+        return token;
+    }
+
+    private OAuth2Authentication authentication(String userName) {
+        OAuth2Request request = new OAuth2Request(Map.of(), "myApp", List.of(), true, Set.of("read"),
+                Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken(userName, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -1,13 +1,15 @@
 package com.yoojin.restapiwithspring.index;
 
 import com.yoojin.restapiwithspring.BaseControllerTest;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-public class IndexControllerTest extends BaseControllerTest {
+@WithMockUser
+class IndexControllerTest extends BaseControllerTest {
     @Test
     public void index() throws Exception {
         this.mockMvc.perform(get("/api"))